@@ -749,6 +749,9 @@ create table board_master
     is_show_date            tinyint(1) default 1                 not null comment '등록일 표시',
     is_search_field_control tinyint(1) default 0                 not null comment '검색 필드 설정 관리',
     is_top_post             tinyint(1) default 0                 not null comment '게시물(top) 설정',
+    is_partitioned          tinyint(1) default 0                 not null comment '게시판 테이블 월 단위 파티션 사용 여부(생성 시에만 적용)',
+    archive_after_months    int                                  null comment '보관 이동 기준 개월 수 (null: 보관 안 함)',
+    archive_watermark       datetime                             null comment '이 시각 이전 글은 보관 테이블에 있을 수 있음',
     created_date            datetime   default CURRENT_TIMESTAMP not null comment '생성일시',
     updated_date            datetime   default CURRENT_TIMESTAMP not null on update CURRENT_TIMESTAMP comment '수정일시',
     constraint board_id
@@ -766,6 +769,8 @@ create table board_field_definition
     field_type       varchar(50)                          not null comment '필드 타입 (VARCHAR, TEXT, DATE, INT 등)',
     is_required      tinyint(1) default 0                 null comment '필수 여부',
     is_searchable    tinyint(1) default 0                 null comment '검색 조건에서 사용 여부',
+    is_indexed       tinyint(1) default 0                 null comment '보조 인덱스 생성 여부 (is_deleted, 필드, idx)',
+    is_sortable      tinyint(1) default 1                 null comment '목록 정렬 허용 여부',
     field_order      int        default 0                 null comment '출력 순서',
     default_value    varchar(255)                         null comment '기본값 (선택)',
     placeholder      varchar(255)                         null comment '입력 힌트 (프론트용)',
@@ -780,6 +785,32 @@ create table board_field_definition
 create index idx_board_idx
     on board_field_definition (board_master_idx);
 
+create table board_schema_change_job
+(
+    idx              bigint auto_increment comment '작업 IDX'
+        primary key,
+    board_master_idx bigint                                not null comment '게시판 IDX',
+    table_name       varchar(100)                          not null comment '대상 게시판 테이블',
+    alter_sql        text                                  not null comment '섀도 테이블에 적용할 ALTER 절',
+    status           varchar(20) default 'PENDING'         not null comment 'PENDING/COPYING/CUTOVER/DONE/FAILED',
+    last_copied_idx  bigint      default 0                 not null comment '복사 완료한 마지막 idx',
+    max_idx          bigint      default 0                 not null comment '복사 대상 최대 idx',
+    copied_rows      bigint      default 0                 not null comment '복사된 행 수',
+    error_message    varchar(1000)                         null comment '실패 사유',
+    owner            varchar(36)                           null comment '점유 중인 실행기',
+    lease_until      datetime                              null comment '점유 만료 시각',
+    created_date     datetime    default CURRENT_TIMESTAMP null comment '생성일시',
+    updated_date     datetime    default CURRENT_TIMESTAMP null comment '수정일시',
+    finished_date    datetime                              null comment '종료일시'
+)
+    comment '게시판 온라인 스키마 변경 작업' collate = utf8mb4_general_ci;
+
+create index idx_board_schema_change_job_status
+    on board_schema_change_job (status, lease_until);
+
+create index idx_board_schema_change_job_master
+    on board_schema_change_job (board_master_idx);
+
 create table board_monitoring
 (
     idx               bigint auto_increment comment '고유번호'
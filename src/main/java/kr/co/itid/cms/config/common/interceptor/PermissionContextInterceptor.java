@@ -0,0 +1,42 @@
+package kr.co.itid.cms.config.common.interceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 종료 시 권한 메모 사용량 기록
+ * - cms.permission.request.resolved: 요청당 실제 권한 해석 횟수
+ * - cms.permission.request.avoided: 요청당 메모로 생략된 해석 횟수
+ */
+@Component
+public class PermissionContextInterceptor implements HandlerInterceptor {
+
+    private final DistributionSummary resolvedSummary;
+    private final DistributionSummary avoidedSummary;
+
+    public PermissionContextInterceptor(MeterRegistry meterRegistry) {
+        this.resolvedSummary = DistributionSummary.builder("cms.permission.request.resolved")
+                .description("Permission resolutions computed per request")
+                .register(meterRegistry);
+        this.avoidedSummary = DistributionSummary.builder("cms.permission.request.avoided")
+                .description("Permission resolutions served from the request memo")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        PermissionRequestContext ctx = PermissionRequestContext.peek();
+        if (ctx == null) {
+            return;
+        }
+        resolvedSummary.record(ctx.getResolved());
+        avoidedSummary.record(ctx.getAvoided());
+    }
+}
@@ -1,25 +1,30 @@
 package kr.co.itid.cms.config.common.redis;
 
+import kr.co.itid.cms.config.common.redis.codec.MenuPermissionDataRedisSerializer;
+import kr.co.itid.cms.config.common.redis.codec.SessionDataRedisSerializer;
 import kr.co.itid.cms.config.security.model.SessionData;
 import kr.co.itid.cms.service.auth.model.MenuPermissionData;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Redis 설정
  * SessionData, MenuPermissionData 객체의 직렬화/역직렬화를 위한 RedisTemplate 설정
+ * (값은 codec 패키지의 바이너리 포맷으로 저장하고, 마이그레이션 기간 동안 JSON 값도 읽는다)
  */
 @Configuration
+@EnableConfigurationProperties(RedisHealthProperties.class)
 public class RedisConfig {
     
     /**
      * SessionData 전용 RedisTemplate
-     * JSON 직렬화를 사용하여 가독성과 호환성 확보
+     * 버전 관리되는 바이너리 직렬화 사용 (기존 JSON 값 읽기 호환)
      */
     @Bean("sessionRedisTemplate")
     public RedisTemplate<String, SessionData> sessionRedisTemplate(RedisConnectionFactory connectionFactory) {
@@ -30,10 +35,10 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Value는 JSON으로 직렬화 (SessionData 객체)
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Value는 바이너리로 직렬화 (SessionData 객체)
+        SessionDataRedisSerializer valueSerializer = new SessionDataRedisSerializer();
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
@@ -41,7 +46,7 @@ public class RedisConfig {
     
     /**
      * MenuPermissionData 전용 RedisTemplate (기존 권한 시스템용)
-     * 기존 코드 호환성을 위해 유지
+     * 기존 코드 호환성을 위해 유지 (기존 JSON 값 읽기 호환)
      */
     @Bean
     @Primary
@@ -53,12 +58,23 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Value는 JSON으로 직렬화 (MenuPermissionData 객체)
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Value는 바이너리로 직렬화 (MenuPermissionData 객체, 권한 집합은 비트마스크)
+        MenuPermissionDataRedisSerializer valueSerializer = new MenuPermissionDataRedisSerializer();
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Pub/Sub 리스너 컨테이너
+     * 노드 로컬 캐시(세션 등) 무효화 메시지 수신용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
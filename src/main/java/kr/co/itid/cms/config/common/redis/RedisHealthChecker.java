@@ -1,77 +1,182 @@
 package kr.co.itid.cms.config.common.redis;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static kr.co.itid.cms.constanrt.RedisConstants.*;
-
 /**
  * Redis 서버 상태 확인 컴포넌트
  * 장애 감지 시 JWT 만료 시간 연장 등의 대응 전략 지원
+ *
+ * - 상태 판정은 백그라운드 프로브(PING)가 주기적으로 수행한다.
+ *   프로브는 전용 스레드에서 돌려 @Scheduled 작업(보관 이동, 스키마 변경 등)이 길어져도 멈추지 않게 한다.
+ * - 요청 경로에서는 캐시된 상태만 읽는다. (Redis 왕복 없음)
+ * - 연속 실패/성공 임계치로 상태 전환을 완화하여 일시적 오류로 인한 플래핑을 막는다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisHealthChecker {
-    
+
     private final StringRedisTemplate redisTemplate;
+    private final RedisHealthProperties properties;
+    private final MeterRegistry meterRegistry;
+
     private final AtomicBoolean isRedisHealthy = new AtomicBoolean(true);
 
-    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofMillis(500);
-    
+    // 연속 실패/성공 횟수 (상태 전환 판단용)
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    private Timer probeTimer;
+    private Counter downFlipCounter;
+    private Counter upFlipCounter;
+
+    // 프로브 전용 스레드 (공용 스케줄러와 분리)
+    private ScheduledExecutorService probeExecutor;
+
+    @PostConstruct
+    void initMetrics() {
+        probeTimer = Timer.builder("cms.redis.health.probe")
+                .description("Redis 헬스 프로브 응답 시간")
+                .register(meterRegistry);
+        downFlipCounter = Counter.builder("cms.redis.health.flips")
+                .description("Redis 상태 전환 횟수")
+                .tag("to", "down")
+                .register(meterRegistry);
+        upFlipCounter = Counter.builder("cms.redis.health.flips")
+                .description("Redis 상태 전환 횟수")
+                .tag("to", "up")
+                .register(meterRegistry);
+        Gauge.builder("cms.redis.health.status", isRedisHealthy, s -> s.get() ? 1 : 0)
+                .description("Redis 상태 (1=정상, 0=장애)")
+                .register(meterRegistry);
+
+        startProbe();
+    }
+
+    private void startProbe() {
+        probeExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "redis-health-probe");
+            t.setDaemon(true);
+            return t;
+        });
+        probeExecutor.scheduleWithFixedDelay(this::probe,
+                properties.getIntervalMs(), properties.getIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopProbe() {
+        probeExecutor.shutdownNow();
+    }
+
     /**
-     * Redis 서버 상태 확인
-     * @return Redis 서버가 정상이면 true, 장애 시 false
+     * 백그라운드 헬스 프로브
+     * PING 한 번으로 상태를 확인하고 응답 시간을 기록한다.
      */
-    public boolean isRedisHealthy() {
+    public void probe() {
+        long start = System.nanoTime();
+        boolean healthy;
         try {
-            // 간단한 SET/GET 테스트로 Redis 상태 확인
-            redisTemplate.opsForValue().set(HEALTH_CHECK_KEY, HEALTH_CHECK_VALUE, HEALTH_CHECK_TIMEOUT);
-            String result = redisTemplate.opsForValue().get(HEALTH_CHECK_KEY);
-            
-            boolean healthy = HEALTH_CHECK_VALUE.equals(result);
-            updateHealthStatus(healthy);
-            return healthy;
-            
+            String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            healthy = pong != null && elapsedMs <= properties.getTimeoutMs();
+            if (pong != null && !healthy) {
+                log.warn("[Redis Health] 프로브 응답 지연: {}ms (기준 {}ms)", elapsedMs, properties.getTimeoutMs());
+            }
         } catch (Exception e) {
             log.warn("[Redis Health] Redis 서버 연결 실패: {}", e.getMessage());
-            updateHealthStatus(false);
-            return false;
+            healthy = false;
+        } finally {
+            probeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
+
+        if (healthy) {
+            reportSuccess();
+        } else {
+            reportFailure();
+        }
+    }
+
+    /**
+     * Redis 서버 상태 확인
+     * 백그라운드 프로브가 갱신한 상태를 반환한다.
+     * @return Redis 서버가 정상이면 true, 장애 시 false
+     */
+    public boolean isRedisHealthy() {
+        return isRedisHealthy.get();
     }
-    
+
     /**
      * 캐시된 Redis 상태 반환 (성능 최적화)
      */
     public boolean isCachedRedisHealthy() {
         return isRedisHealthy.get();
     }
-    
+
+    /**
+     * Redis 호출 실패 보고
+     * 요청 경로에서 발생한 오류도 프로브 실패와 동일하게 연속 실패 횟수에 반영한다.
+     */
+    public synchronized void reportFailure() {
+        consecutiveSuccesses = 0;
+        consecutiveFailures++;
+        if (consecutiveFailures >= properties.getFailureThreshold()) {
+            updateHealthStatus(false);
+        }
+    }
+
+    /**
+     * Redis 호출 성공 보고
+     */
+    public synchronized void reportSuccess() {
+        consecutiveFailures = 0;
+        consecutiveSuccesses++;
+        if (consecutiveSuccesses >= properties.getRecoveryThreshold()) {
+            updateHealthStatus(true);
+        }
+    }
+
     /**
      * Redis 상태 업데이트 및 로깅
      */
     private void updateHealthStatus(boolean healthy) {
         boolean previousStatus = isRedisHealthy.getAndSet(healthy);
-        
+
         // 상태 변경 시에만 로그 출력
         if (previousStatus != healthy) {
             if (healthy) {
+                upFlipCounter.increment();
                 log.info("[Redis Health] Redis 서버 복구 완료");
             } else {
+                downFlipCounter.increment();
                 log.error("[Redis Health] Redis 서버 장애 감지 - Fallback 모드 활성화");
             }
         }
     }
-    
+
     /**
      * 강제로 Redis 상태를 업데이트 (테스트 용도)
+     * 임계치를 거치지 않고 즉시 반영한다.
      */
-    public void forceUpdateHealthStatus(boolean healthy) {
+    public synchronized void forceUpdateHealthStatus(boolean healthy) {
+        consecutiveFailures = 0;
+        consecutiveSuccesses = 0;
         updateHealthStatus(healthy);
     }
 }
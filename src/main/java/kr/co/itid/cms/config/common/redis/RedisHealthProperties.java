@@ -0,0 +1,22 @@
+package kr.co.itid.cms.config.common.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 헬스 프로브 설정
+ * 백그라운드 프로브 주기와 상태 전환 임계치(히스테리시스)를 정의한다.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "redis.health")
+public class RedisHealthProperties {
+    /** ms (프로브 실행 간격) */
+    private long intervalMs = 1000;
+    /** ms (이 시간을 넘긴 응답은 실패로 간주) */
+    private long timeoutMs = 500;
+    /** 장애로 전환하기 위한 연속 실패 횟수 */
+    private int failureThreshold = 3;
+    /** 정상으로 복귀하기 위한 연속 성공 횟수 */
+    private int recoveryThreshold = 2;
+}
@@ -0,0 +1,172 @@
+package kr.co.itid.cms.config.common.redis.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Redis 값 바이너리 인코딩 공통 유틸
+ *
+ * 포맷: [MAGIC][VERSION][payload...]
+ * - 정수는 varint(ZigZag), 문자열은 길이+UTF-8, null은 길이 0으로 표현
+ * - 타입 메타데이터(클래스명)는 저장하지 않는다.
+ * - MAGIC으로 시작하지 않는 값은 기존 JSON 포맷으로 간주한다. (마이그레이션 호환)
+ */
+final class BinaryCodec {
+
+    private BinaryCodec() {}
+
+    /** JSON('{', '[', '"')과 겹치지 않는 시작 바이트 */
+    static final byte MAGIC = (byte) 0xB1;
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length >= 2 && bytes[0] == MAGIC;
+    }
+
+    /**
+     * 가변 길이 바이트 버퍼 기반 Writer
+     */
+    static final class Writer {
+        private byte[] buf;
+        private int pos;
+
+        Writer(int initialCapacity) {
+            this.buf = new byte[initialCapacity];
+        }
+
+        Writer header(int version) {
+            writeByte(MAGIC);
+            writeByte(version);
+            return this;
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void writeVarLong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[pos++] = (byte) v;
+        }
+
+        void writeVarInt(int v) {
+            writeVarLong(v & 0xFFFFFFFFL);
+        }
+
+        void writeZigZagLong(long v) {
+            writeVarLong((v << 1) ^ (v >> 63));
+        }
+
+        void writeZigZagInt(int v) {
+            writeVarInt((v << 1) ^ (v >> 31));
+        }
+
+        /** null 허용 long: 0=null, 그 외 1 + ZigZag 값 */
+        void writeNullableLong(Long v) {
+            if (v == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeZigZagLong(v);
+            }
+        }
+
+        /** null 허용 문자열: 길이+1 (0=null) */
+        void writeString(String s) {
+            if (s == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int n) {
+            if (pos + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + n));
+            }
+        }
+    }
+
+    /**
+     * 바이트 배열 Reader
+     */
+    static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        /** MAGIC 확인 후 버전 반환 */
+        int header() {
+            if (readByte() != MAGIC) {
+                throw new SerializationException("Invalid binary header");
+            }
+            return readByte() & 0xFF;
+        }
+
+        byte readByte() {
+            if (pos >= buf.length) {
+                throw new SerializationException("Unexpected end of binary value");
+            }
+            return buf[pos++];
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("Malformed varint");
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readZigZagLong() {
+            long v = readVarLong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        int readZigZagInt() {
+            int v = readVarInt();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        Long readNullableLong() {
+            return readByte() == 0 ? null : readZigZagLong();
+        }
+
+        String readString() {
+            int len = readVarInt();
+            if (len == 0) return null;
+            len -= 1;
+            if (len < 0 || pos + len > buf.length) {
+                throw new SerializationException("Malformed string length");
+            }
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package kr.co.itid.cms.config.common.redis.codec;
+
+import kr.co.itid.cms.service.auth.model.MenuPermissionData;
+import kr.co.itid.cms.service.auth.model.PermissionBits;
+import kr.co.itid.cms.service.auth.model.PermissionEntry;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MenuPermissionData 바이너리 직렬화기
+ *
+ * v1: menuId, lastUpdate(epoch ms), [sort, [flags, userIdx?, level?, mask, extra?]...]...
+ * - 권한 집합은 PermissionBits 마스크로 저장
+ * - 마스크로 표현되지 않는 권한명이 있으면 FLAG_EXTRA 뒤에 문자열로 보존
+ * 기존 JSON(GenericJackson2Json) 값도 읽을 수 있으며, 다음 저장 시 바이너리로 교체된다.
+ */
+public class MenuPermissionDataRedisSerializer implements RedisSerializer<MenuPermissionData> {
+
+    private static final int VERSION = 1;
+
+    private static final int FLAG_USER = 1;
+    private static final int FLAG_LEVEL = 1 << 1;
+    private static final int FLAG_EXTRA = 1 << 2;
+
+    private final GenericJackson2JsonRedisSerializer legacy = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(MenuPermissionData data) throws SerializationException {
+        if (data == null) {
+            return new byte[0];
+        }
+        BinaryCodec.Writer w = new BinaryCodec.Writer(128).header(VERSION);
+        w.writeNullableLong(data.getMenuId());
+        w.writeNullableLong(data.getLastUpdate() == null ? null : data.getLastUpdate().getTime());
+
+        Map<Integer, List<PermissionEntry>> buckets = data.getSortedPermissionMap();
+        w.writeVarInt(buckets.size());
+        for (Map.Entry<Integer, List<PermissionEntry>> bucket : buckets.entrySet()) {
+            w.writeZigZagInt(bucket.getKey());
+            w.writeVarInt(bucket.getValue().size());
+            for (PermissionEntry pe : bucket.getValue()) {
+                writeEntry(w, pe);
+            }
+        }
+        return w.toByteArray();
+    }
+
+    private void writeEntry(BinaryCodec.Writer w, PermissionEntry pe) {
+        Set<String> permissions = pe.getPermissions();
+        int mask = PermissionBits.toMask(permissions);
+        List<String> extra = extraNames(permissions);
+
+        int flags = (pe.getUserIdx() != null ? FLAG_USER : 0)
+                | (pe.getLevel() != null ? FLAG_LEVEL : 0)
+                | (extra.isEmpty() ? 0 : FLAG_EXTRA);
+        w.writeByte(flags);
+        if (pe.getUserIdx() != null) w.writeZigZagLong(pe.getUserIdx());
+        if (pe.getLevel() != null) w.writeZigZagInt(pe.getLevel());
+        w.writeVarInt(mask);
+        if (!extra.isEmpty()) {
+            w.writeVarInt(extra.size());
+            for (String name : extra) {
+                w.writeString(name);
+            }
+        }
+    }
+
+    /** 마스크에 포함되지 않는 권한명 */
+    private List<String> extraNames(Set<String> permissions) {
+        List<String> extra = new ArrayList<>(0);
+        if (permissions == null) return extra;
+        for (String p : permissions) {
+            if (PermissionBits.bitOf(p) == 0) {
+                extra.add(p);
+            }
+        }
+        return extra;
+    }
+
+    @Override
+    public MenuPermissionData deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!BinaryCodec.isBinary(bytes)) {
+            return readLegacy(bytes);
+        }
+
+        BinaryCodec.Reader r = new BinaryCodec.Reader(bytes);
+        int version = r.header();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported MenuPermissionData version: " + version);
+        }
+
+        MenuPermissionData data = new MenuPermissionData();
+        data.setMenuId(r.readNullableLong());
+        Long lastUpdate = r.readNullableLong();
+        data.setLastUpdate(lastUpdate == null ? null : new Date(lastUpdate));
+
+        int bucketCount = r.readVarInt();
+        for (int i = 0; i < bucketCount; i++) {
+            int sort = r.readZigZagInt();
+            int entryCount = r.readVarInt();
+            for (int j = 0; j < entryCount; j++) {
+                int flags = r.readByte();
+                Long userIdx = (flags & FLAG_USER) != 0 ? r.readZigZagLong() : null;
+                Integer level = (flags & FLAG_LEVEL) != 0 ? r.readZigZagInt() : null;
+                Set<String> permissions = PermissionBits.toSet(r.readVarInt());
+                if ((flags & FLAG_EXTRA) != 0) {
+                    int extraCount = r.readVarInt();
+                    for (int k = 0; k < extraCount; k++) {
+                        permissions.add(r.readString());
+                    }
+                }
+                data.addPermissionEntry(sort, userIdx, level, permissions);
+            }
+        }
+        return data;
+    }
+
+    /** 마이그레이션 기간 동안 기존 JSON 값 읽기 */
+    private MenuPermissionData readLegacy(byte[] bytes) {
+        Object value = legacy.deserialize(bytes);
+        if (value == null || value instanceof MenuPermissionData) {
+            return (MenuPermissionData) value;
+        }
+        throw new SerializationException("Unexpected legacy permission value: " + value.getClass().getName());
+    }
+}
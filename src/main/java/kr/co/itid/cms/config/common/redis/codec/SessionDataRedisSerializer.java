@@ -0,0 +1,67 @@
+package kr.co.itid.cms.config.common.redis.codec;
+
+import kr.co.itid.cms.config.security.model.SessionData;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * SessionData 바이너리 직렬화기
+ *
+ * v1: userId, userLevel, idx, userName, hostname, lastActivity
+ * 기존 JSON(GenericJackson2Json) 값도 읽을 수 있으며, 다음 저장 시 바이너리로 교체된다.
+ */
+public class SessionDataRedisSerializer implements RedisSerializer<SessionData> {
+
+    private static final int VERSION = 1;
+
+    private final GenericJackson2JsonRedisSerializer legacy = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(SessionData data) throws SerializationException {
+        if (data == null) {
+            return new byte[0];
+        }
+        BinaryCodec.Writer w = new BinaryCodec.Writer(64).header(VERSION);
+        w.writeString(data.getUserId());
+        w.writeZigZagInt(data.getUserLevel());
+        w.writeNullableLong(data.getIdx());
+        w.writeString(data.getUserName());
+        w.writeString(data.getHostname());
+        w.writeVarLong(data.getLastActivity());
+        return w.toByteArray();
+    }
+
+    @Override
+    public SessionData deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!BinaryCodec.isBinary(bytes)) {
+            return readLegacy(bytes);
+        }
+
+        BinaryCodec.Reader r = new BinaryCodec.Reader(bytes);
+        int version = r.header();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported SessionData version: " + version);
+        }
+        return SessionData.builder()
+                .userId(r.readString())
+                .userLevel(r.readZigZagInt())
+                .idx(r.readNullableLong())
+                .userName(r.readString())
+                .hostname(r.readString())
+                .lastActivity(r.readVarLong())
+                .build();
+    }
+
+    /** 마이그레이션 기간 동안 기존 JSON 값 읽기 */
+    private SessionData readLegacy(byte[] bytes) {
+        Object value = legacy.deserialize(bytes);
+        if (value == null || value instanceof SessionData) {
+            return (SessionData) value;
+        }
+        throw new SerializationException("Unexpected legacy session value: " + value.getClass().getName());
+    }
+}
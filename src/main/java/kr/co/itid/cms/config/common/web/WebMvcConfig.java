@@ -1,5 +1,6 @@
 package kr.co.itid.cms.config.common.web;
 
+import kr.co.itid.cms.config.common.interceptor.PermissionContextInterceptor;
 import kr.co.itid.cms.config.common.interceptor.VisitorInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -10,10 +11,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
     private final VisitorInterceptor visitorInterceptor;
+    private final PermissionContextInterceptor permissionContextInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(visitorInterceptor)
                 .addPathPatterns("/back-api/auth/me");
+        registry.addInterceptor(permissionContextInterceptor)
+                .addPathPatterns("/back-api/**");
     }
 }
@@ -1,6 +1,8 @@
 package kr.co.itid.cms.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
@@ -27,6 +29,11 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -36,6 +43,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final SiteAccessChecker siteAccessChecker;
     private final SessionManager sessionManager;
 
+    // 재발급 결과 재사용 시간 / 진행 중 재발급 대기 한도 (초)
+    private static final long REISSUE_REUSE_SECONDS = 10;
+    private static final long REISSUE_WAIT_SECONDS = 5;
+
+    // sid → 진행 중인 재발급
+    private final ConcurrentMap<String, CompletableFuture<ReissuedAccess>> inflightReissues = new ConcurrentHashMap<>();
+    // sid → 직전 재발급 결과
+    private final Cache<String, ReissuedAccess> recentReissues = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(REISSUE_REUSE_SECONDS))
+            .build();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -73,13 +92,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     Long sessionExpEpoch;
                     if (sessionManager.isRedisHealthy()) {
-                        Optional<SessionData> sessionOpt = sessionManager.getSession(sid);
+                        // 조회 + 슬라이딩 (Redis 1회 왕복)
+                        Optional<SessionData> sessionOpt = sessionManager.getAndTouchSession(sid);
                         if (sessionOpt.isEmpty()) {
                             unauthorizedAndClear(response, "세션이 만료되었거나 철회되었습니다.");
                             return;
                         }
-                        // 슬라이딩
-                        sessionManager.touchSession(sid);
                         sessionExpEpoch = ZonedDateTime.now(ZoneId.of("Asia/Seoul"))
                                 .plusSeconds(jwtProperties.getSessionTtlSeconds()) // yml 기반
                                 .toEpochSecond();
@@ -152,33 +170,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String sid = rClaims.get("sid", String.class);
             if (!StringUtils.hasText(sid)) return null;
 
-            Optional<SessionData> sessionOpt = sessionManager.getSession(sid);
-            if (sessionOpt.isEmpty()) return null;
-
-            SessionData s = sessionOpt.get();
-
-            // 슬라이딩 후 세션 만료(epoch) = now + sessionTtlSeconds
-            sessionManager.touchSession(sid);
-            long sessionExpEpoch = ZonedDateTime.now(ZoneId.of("Asia/Seoul"))
-                    .plusSeconds(jwtProperties.getSessionTtlSeconds())     // yml 기반
-                    .toEpochSecond();
+            // sid 단위 single-flight: 동시 요청은 진행 중이거나 직전에 발급된 결과를 재사용
+            ReissuedAccess reissued = reissueOnce(sid);
+            if (reissued == null) return null;
 
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("userLevel", s.getUserLevel());
-            claims.put("userName", s.getUserName());
-            claims.put("idx", s.getIdx());
-            claims.put("sid", sid);
-            claims.put("exp", sessionExpEpoch); // 프론트 편의상 동일 값
-
-            String newAccess = jwtTokenProvider.createToken(s.getUserId(), claims);
+            SessionData s = reissued.session();
 
             // ACCESS 쿠키 TTL = accessTokenValidity
-            AuthCookieUtil.setAccessToken(response, newAccess, Duration.ofSeconds(jwtProperties.getAccessTokenValidity()));
-            AuthCookieUtil.setSessionExpires(response, sessionExpEpoch);
+            AuthCookieUtil.setAccessToken(response, reissued.accessToken(), Duration.ofSeconds(jwtProperties.getAccessTokenValidity()));
+            AuthCookieUtil.setSessionExpires(response, reissued.sessionExpEpoch());
 
             return new JwtAuthenticatedUser(
                     s.getIdx(), s.getUserId(), s.getUserName(), s.getUserLevel(),
-                    sessionExpEpoch, newAccess, hostname, menuId, sid
+                    reissued.sessionExpEpoch(), reissued.accessToken(), hostname, menuId, sid
             );
 
         } catch (ExpiredJwtException e) {
@@ -190,6 +194,79 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * sid 단위로 재발급을 한 번만 수행한다.
+     * - 직전 재발급 결과가 있고 그 사이 세션이 철회되지 않았으면 그대로 사용
+     * - 진행 중인 재발급이 있으면 그 결과를 대기
+     * - 없으면 직접 재발급 후 결과를 공유
+     * 재발급 도중 세션이 철회되면 토큰을 내주지 않고 null(미인증)을 반환한다.
+     */
+    private ReissuedAccess reissueOnce(String sid) throws Exception {
+        ReissuedAccess recent = recentReissues.getIfPresent(sid);
+        if (recent != null) {
+            if (!sessionManager.isRevoked(sid)) {
+                return recent;
+            }
+            recentReissues.invalidate(sid);
+        }
+
+        CompletableFuture<ReissuedAccess> mine = new CompletableFuture<>();
+        CompletableFuture<ReissuedAccess> inflight = inflightReissues.putIfAbsent(sid, mine);
+        if (inflight != null) {
+            try {
+                ReissuedAccess shared = inflight.get(REISSUE_WAIT_SECONDS, TimeUnit.SECONDS);
+                return (shared != null && sessionManager.isRevoked(sid)) ? null : shared;
+            } catch (ExecutionException e) {
+                throw new Exception("ACCESS 재발급 대기 실패", e.getCause());
+            }
+        }
+
+        try {
+            ReissuedAccess result = reissue(sid);
+            if (result != null) {
+                recentReissues.put(sid, result);
+                // 재발급 도중 철회된 경우 결과를 재사용하지도, 내주지도 않음 (기록 후 확인 → 철회 전파와 순서 무관)
+                if (sessionManager.isRevoked(sid)) {
+                    recentReissues.invalidate(sid);
+                    result = null;
+                }
+            }
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightReissues.remove(sid, mine);
+        }
+    }
+
+    private ReissuedAccess reissue(String sid) throws Exception {
+        // 조회 + 슬라이딩 (Redis 1회 왕복)
+        Optional<SessionData> sessionOpt = sessionManager.getAndTouchSession(sid);
+        if (sessionOpt.isEmpty()) return null;
+
+        SessionData s = sessionOpt.get();
+
+        // 슬라이딩 후 세션 만료(epoch) = now + sessionTtlSeconds
+        long sessionExpEpoch = ZonedDateTime.now(ZoneId.of("Asia/Seoul"))
+                .plusSeconds(jwtProperties.getSessionTtlSeconds())     // yml 기반
+                .toEpochSecond();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userLevel", s.getUserLevel());
+        claims.put("userName", s.getUserName());
+        claims.put("idx", s.getIdx());
+        claims.put("sid", sid);
+        claims.put("exp", sessionExpEpoch); // 프론트 편의상 동일 값
+
+        String newAccess = jwtTokenProvider.createToken(s.getUserId(), claims);
+        return new ReissuedAccess(s, newAccess, sessionExpEpoch);
+    }
+
+    /** 재발급 결과 (동시 요청 간 공유) */
+    private record ReissuedAccess(SessionData session, String accessToken, long sessionExpEpoch) {}
+
     private String getClientIp(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         String ip = (xfHeader != null && !xfHeader.isEmpty())
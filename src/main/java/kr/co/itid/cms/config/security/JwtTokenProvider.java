@@ -1,26 +1,36 @@
 package kr.co.itid.cms.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import kr.co.itid.cms.config.security.model.JwtProperties;
 import kr.co.itid.cms.entity.cms.core.member.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static kr.co.itid.cms.constanrt.SecurityConstants.ACCESS_TOKEN_COOKIE_NAME;
 import static kr.co.itid.cms.constanrt.SecurityConstants.REFRESH_TOKEN_COOKIE_NAME;
@@ -30,6 +40,8 @@ import static kr.co.itid.cms.constanrt.SecurityConstants.REFRESH_TOKEN_COOKIE_NA
  * - Authorization 헤더 미사용, 쿠키 기반 ACCESS/REFRESH
  * - 블랙리스트 미사용(세션 삭제로 즉시 철회)
  * - 쿠키 생성/삭제는 AuthCookieUtil에서 처리 (여기선 JWT 발급/검증만)
+ * - 파서는 초기화 시 1회 생성하여 재사용 (thread-safe)
+ * - 검증된 클레임은 토큰 다이제스트 기준으로 캐시 (exp + 스큐까지만 유효)
  */
 @Component
 @RequiredArgsConstructor
@@ -40,12 +52,63 @@ public class JwtTokenProvider {
     private String secretKey;
 
     private final JwtProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
 
     private Key key;
 
+    // 클레임 조회용 (스큐 없음)
+    private JwtParser parser;
+    // 검증용 (스큐 허용)
+    private JwtParser skewedParser;
+
+    // 토큰 다이제스트 → 검증된 클레임
+    private Cache<String, Claims> claimsCache;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.skewedParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                .build();
+
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(props.getClaimsCacheMaxSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String k, Claims claims, long currentTime) {
+                        return nanosUntilSkewedExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String k, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilSkewedExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String k, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
     }
 
     /** ACCESS 토큰 생성 (기본) */
@@ -93,11 +156,7 @@ public class JwtTokenProvider {
     }
 
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token, false);
     }
 
     /** Refresh 토큰 만들기 (필수 최소 클레임만) */
@@ -122,21 +181,13 @@ public class JwtTokenProvider {
     }
 
     public Claims getClaimsFromRefreshToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token, false);
     }
 
     /** Refresh 토큰 검증 (만료/서명/스큐) */
     public void validateRefreshToken(String token) throws Exception {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .setAllowedClockSkewSeconds(60)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token, true);
         } catch (ExpiredJwtException e) {
             throw e;
         } catch (JwtException | IllegalArgumentException e) {
@@ -173,11 +224,7 @@ public class JwtTokenProvider {
      */
     public void validateToken(String token) throws Exception {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .setAllowedClockSkewSeconds(60)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token, true);
         } catch (ExpiredJwtException e) {
             throw e; // 만료는 그대로 전달
         } catch (JwtException | IllegalArgumentException e) {
@@ -187,6 +234,49 @@ public class JwtTokenProvider {
 
     /* ========= 헬퍼 ========= */
 
+    /**
+     * 클레임 파싱 (검증 결과 캐시 사용)
+     * - 캐시 적중 시 서명 검증/JSON 디코딩 생략
+     * - 만료 판정은 파서와 동일하게 exp(+스큐) 기준으로 수행하여 ExpiredJwtException을 던진다.
+     */
+    private Claims parseClaims(String token, boolean allowSkew) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+
+        final String digest = digest(token);
+        Claims cached = claimsCache.getIfPresent(digest);
+        if (cached != null) {
+            Date exp = cached.getExpiration();
+            long skewMs = allowSkew ? TimeUnit.SECONDS.toMillis(ALLOWED_CLOCK_SKEW_SECONDS) : 0L;
+            if (exp != null && System.currentTimeMillis() > exp.getTime() + skewMs) {
+                throw new ExpiredJwtException(null, cached, "JWT expired at " + exp.toInstant());
+            }
+            return cached;
+        }
+
+        Claims claims = (allowSkew ? skewedParser : parser).parseClaimsJws(token).getBody();
+        claimsCache.put(digest, claims);
+        return claims;
+    }
+
+    /** 캐시 만료 = exp + 스큐 (exp 없는 토큰은 ACCESS 유효기간 기준) */
+    private long nanosUntilSkewedExpiry(Claims claims) {
+        Date exp = claims.getExpiration();
+        long untilMs = (exp != null)
+                ? exp.getTime() + TimeUnit.SECONDS.toMillis(ALLOWED_CLOCK_SKEW_SECONDS) - System.currentTimeMillis()
+                : TimeUnit.SECONDS.toMillis(props.getAccessTokenValidity());
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, untilMs));
+    }
+
+    /** 토큰 원문 대신 SHA-256 다이제스트를 캐시 키로 사용 */
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
     /** 현재 시각 기준 ACCESS 만료 epoch(초) 계산 (Redis 장애 고려용) */
     public long computeAccessExpiryEpoch(boolean isRedisDown) {
         long validity = isRedisDown ? props.getFallbackTokenValidity() : props.getAccessTokenValidity();
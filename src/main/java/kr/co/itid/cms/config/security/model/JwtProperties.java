@@ -15,4 +15,12 @@ public class JwtProperties {
     private long refreshTokenValidity;
     /** seconds (세션 슬라이딩 TTL: SID 기준 만료) */
     private long sessionTtlSeconds;
+    /** seconds (이 시간 이내의 재방문은 lastActivity 재기록 생략) */
+    private long sessionTouchWindowSeconds = 60;
+    /** seconds (노드 로컬 세션 캐시 유지 시간) */
+    private long sessionNearCacheTtlSeconds = 5;
+    /** 노드 로컬 세션 캐시 최대 항목 수 */
+    private long sessionNearCacheMaxSize = 10000;
+    /** 검증된 토큰 클레임 캐시 최대 항목 수 */
+    private long claimsCacheMaxSize = 10000;
 }
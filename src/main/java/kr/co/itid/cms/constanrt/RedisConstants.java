@@ -7,11 +7,21 @@ public final class RedisConstants {
     private RedisConstants() {} // 생성자 private 처리
 
     public static final String PERMISSION_KEY_PREFIX = "perm:menu:";
+    public static final String PERMISSION_STALE_KEY_PREFIX = "perm:stale:";
+    public static final String PERMISSION_LEASE_KEY_PREFIX = "perm:lease:";
     public static final String SESSION_KEY_PREFIX = "sess:";
-    public static final String HEALTH_CHECK_KEY = "health:check";
+    public static final String BOARD_COUNT_KEY_PREFIX = "board:count:";
+    public static final String BOARD_COUNT_GEN_KEY_PREFIX = "board:count:gen:";
 
-    public static final String HEALTH_CHECK_VALUE = "ok";
+    // Pub/Sub 채널 (노드 로컬 캐시 무효화 전파)
+    public static final String SESSION_REVOKE_CHANNEL = "sess:revoke";
+    public static final String PERMISSION_EVICT_CHANNEL = "perm:evict";
+    public static final String BOARD_SCHEMA_EVICT_CHANNEL = "board:schema:evict";
+    public static final String MENU_NAV_EVICT_CHANNEL = "menu:nav:evict";
 
     public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
     public static final Duration PERMISSION_TTL = Duration.ofDays(1);
+    public static final Duration PERMISSION_STALE_TTL = Duration.ofMinutes(1);
+    public static final Duration PERMISSION_LEASE_TTL = Duration.ofSeconds(5);
+    public static final Duration BOARD_COUNT_TTL = Duration.ofHours(6);
 }
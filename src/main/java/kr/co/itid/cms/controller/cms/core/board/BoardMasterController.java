@@ -7,6 +7,7 @@ import kr.co.itid.cms.dto.cms.core.board.request.BoardUpdateRequest;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardFieldDefinitionResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterListResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterResponse;
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import kr.co.itid.cms.dto.common.ApiResponse;
@@ -117,11 +118,18 @@ public class BoardMasterController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
-    // 강제 동기화(옵션)
+    // 강제 동기화(옵션): 대형 테이블은 스키마 변경 작업 IDX 반환 (즉시 적용 시 null)
     @PreAuthorize("@permService.hasAccess('MANAGE')")
     @PostMapping("/{idx}/sync")
-    public ResponseEntity<ApiResponse<Void>> syncPhysicalTable(@PathVariable @Positive Long idx) throws Exception {
-        boardMasterService.syncPhysicalTableWithDefinitions(idx);
-        return ResponseEntity.ok(ApiResponse.success(null));
+    public ResponseEntity<ApiResponse<Long>> syncPhysicalTable(@PathVariable @Positive Long idx) throws Exception {
+        return ResponseEntity.ok(ApiResponse.success(boardMasterService.syncPhysicalTableWithDefinitions(idx)));
+    }
+
+    // 스키마 변경 작업 진행 상황
+    @PreAuthorize("@permService.hasAccess('MANAGE')")
+    @GetMapping("/{idx}/schema-jobs")
+    public ResponseEntity<ApiResponse<List<BoardSchemaChangeJobResponse>>> getSchemaChangeJobs(
+            @PathVariable @Positive Long idx) throws Exception {
+        return ResponseEntity.ok(ApiResponse.success(boardMasterService.getSchemaChangeJobs(idx)));
     }
 }
\ No newline at end of file
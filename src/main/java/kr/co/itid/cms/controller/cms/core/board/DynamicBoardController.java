@@ -1,21 +1,31 @@
 package kr.co.itid.cms.controller.cms.core.board;
 
+import kr.co.itid.cms.dto.cms.core.board.response.BoardImportResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import kr.co.itid.cms.dto.common.ApiResponse;
+import kr.co.itid.cms.enums.BoardExportFormat;
 import kr.co.itid.cms.service.cms.core.board.DynamicBoardService;
 import kr.co.itid.cms.utils.HtmlSanitizer; // HTML 새니타이저 추가
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +54,56 @@ public class DynamicBoardController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    @PreAuthorize("@permService.hasAccess('ACCESS')")
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponse<Slice<Map<String, Object>>>> getSlice(
+            @Valid @ModelAttribute SearchOption option,
+            @Valid @ModelAttribute PaginationOption pagination,
+            BindingResult bindingResult
+    ) throws Exception {
+        if (bindingResult.hasErrors()) {
+            String msg = bindingResult.getAllErrors().get(0).getDefaultMessage();
+            return ResponseEntity.badRequest().body(ApiResponse.error(400, msg));
+        }
+
+        Slice<Map<String, Object>> result = dynamicBoardService.getSlice(option, pagination);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    @PreAuthorize("@permService.hasAccess('ACCESS')")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<Map<String, Object>>>> getCursorList(
+            @Valid @ModelAttribute SearchOption option,
+            @Valid @ModelAttribute CursorOption cursor,
+            BindingResult bindingResult
+    ) throws Exception {
+        if (bindingResult.hasErrors()) {
+            String msg = bindingResult.getAllErrors().get(0).getDefaultMessage();
+            return ResponseEntity.badRequest().body(ApiResponse.error(400, msg));
+        }
+
+        CursorSliceResponse<Map<String, Object>> result = dynamicBoardService.getCursorList(option, cursor);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /**
+     * 게시판 전체 내보내기 (CSV / NDJSON 스트리밍)
+     */
+    @PreAuthorize("@permService.hasAccess('ACCESS')")
+    @GetMapping("/export")
+    public void export(
+            @Valid @ModelAttribute SearchOption option,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response
+    ) throws Exception {
+        BoardExportFormat exportFormat = BoardExportFormat.from(format); // 미지원 형식 → 400
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"board-export." + exportFormat.getValue() + "\"");
+        dynamicBoardService.export(option, exportFormat, response.getOutputStream());
+    }
+
     @PreAuthorize("@permService.hasAccess('VIEW')")
     @GetMapping("/{idx}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getView(
@@ -65,7 +125,25 @@ public class DynamicBoardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(null));
     }
 
-    @PreAuthorize("@permService.hasAccess('MODIFY', #idx)")
+    /**
+     * 게시글 일괄 가져오기 (CSV / NDJSON)
+     */
+    @PreAuthorize("@permService.hasAccess('WRITE')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BoardImportResponse>> importRows(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Integer chunkSize
+    ) throws Exception {
+        BoardExportFormat importFormat = BoardExportFormat.from(format); // 미지원 형식 → 400
+
+        try (InputStream in = file.getInputStream()) {
+            BoardImportResponse result = dynamicBoardService.importRows(importFormat, in, chunkSize);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        }
+    }
+
+    @PreAuthorize("@permService.hasAccessOwnedWrite('MODIFY', #idx)")
     @PutMapping("/{idx}")
     public ResponseEntity<ApiResponse<Void>> update(
             @PathVariable Long idx,
@@ -78,7 +156,7 @@ public class DynamicBoardController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
-    @PreAuthorize("@permService.hasAccess('REMOVE', #idx)")
+    @PreAuthorize("@permService.hasAccessOwnedWrite('REMOVE', #idx)")
     @DeleteMapping("/{idx}")
     public ResponseEntity<ApiResponse<Void>> delete(
             @PathVariable Long idx
@@ -99,19 +177,6 @@ public class DynamicBoardController {
      * @param body 요청 본문 데이터
      */
     private void sanitizeHtmlFields(Map<String, Object> body) {
-        // HTML 콘텐츠가 포함될 수 있는 필드명들
-        String[] htmlFields = {"content", "description", "summary", "body", "text"};
-        
-        for (String fieldName : htmlFields) {
-            Object value = body.get(fieldName);
-            if (value instanceof String) {
-                String stringValue = (String) value;
-                if (stringValue != null && !stringValue.trim().isEmpty()) {
-                    // HTML 새니타이즈 처리
-                    String sanitizedValue = htmlSanitizer.sanitize(stringValue);
-                    body.put(fieldName, sanitizedValue);
-                }
-            }
-        }
+        htmlSanitizer.sanitizeFields(body);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package kr.co.itid.cms.controller.cms.core.menu;
 
+import kr.co.itid.cms.dto.cms.core.menu.response.MenuNavResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuTreeLiteResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuTreeResponse;
 import kr.co.itid.cms.dto.common.ApiResponse;
+import kr.co.itid.cms.service.cms.core.menu.MenuNavigationService;
 import kr.co.itid.cms.service.cms.core.menu.MenuService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +26,7 @@ import java.util.List;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuNavigationService menuNavigationService;
 
     /**
      * 모든 드라이브 메뉴를 조회합니다.
@@ -66,4 +69,20 @@ public class MenuController {
         List<MenuTreeResponse> children = menuService.getMenuTreeByName(name);
         return ResponseEntity.ok(ApiResponse.success(children));
     }
+
+    /**
+     * 현재 사용자가 접근/조회할 수 있는 메뉴만 남긴 드라이브 하위 메뉴 트리를 조회합니다.
+     * 각 노드에는 사용자에게 적용되는 권한 비트마스크가 포함됩니다.
+     *
+     * @param name 드라이브 이름 (필수, 공백 불가)
+     * @return ApiResponse&lt;List&lt;MenuNavResponse&gt;&gt; 권한 필터링된 트리 응답
+     * @throws Exception 트리 또는 권한 조회 중 오류 발생 시
+     */
+    @GetMapping("/{name}/nav")
+    public ResponseEntity<ApiResponse<List<MenuNavResponse>>> getNavigationTreeByName(
+            @PathVariable @Pattern(regexp = "^[a-zA-Z0-9_-]{3,30}$") String name) throws Exception {
+
+        List<MenuNavResponse> tree = menuNavigationService.getNavigationTree(name);
+        return ResponseEntity.ok(ApiResponse.success(tree));
+    }
 }
\ No newline at end of file
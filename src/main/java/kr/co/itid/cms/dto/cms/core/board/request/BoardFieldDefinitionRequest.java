@@ -35,6 +35,14 @@ public class BoardFieldDefinitionRequest {
     @Builder.Default
     private Boolean isSearchable = false;
 
+    // (is_deleted, field, idx) 보조 인덱스 생성 여부 (TEXT 계열 제외)
+    @Builder.Default
+    private Boolean isIndexed = false;
+
+    // 목록 정렬 허용 여부 (대용량 게시판은 인덱스 필드만 정렬 가능)
+    @Builder.Default
+    private Boolean isSortable = true;
+
     @Builder.Default
     private Integer fieldOrder = 0;
 
@@ -69,4 +69,12 @@ public class BoardMasterRequest {
     private Boolean isShowDate = true;
     private Boolean isSearchFieldControl = false;
     private Boolean isTopPost = false;
+
+    // 생성 시에만 반영 (created_date 월 단위 RANGE 파티션)
+    private Boolean isPartitioned = false;
+
+    // 지정 시 이 개월 수보다 오래된 글과 삭제된 글을 보관 테이블로 이동 (null: 보관 안 함)
+    @Min(value = 1, message = "보관 기준은 최소 1개월 이상이어야 합니다.")
+    @Max(value = 120, message = "보관 기준은 최대 120개월까지 가능합니다.")
+    private Integer archiveAfterMonths;
 }
\ No newline at end of file
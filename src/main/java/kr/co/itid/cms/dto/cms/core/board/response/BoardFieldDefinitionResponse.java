@@ -12,6 +12,8 @@ public class BoardFieldDefinitionResponse {
     private String fieldType;
     private Boolean isRequired;
     private Boolean isSearchable;
+    private Boolean isIndexed;
+    private Boolean isSortable;
     private Integer fieldOrder;
     private String defaultValue;
     private String placeholder;
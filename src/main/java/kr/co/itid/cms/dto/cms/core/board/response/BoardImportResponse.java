@@ -0,0 +1,30 @@
+package kr.co.itid.cms.dto.cms.core.board.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 결과
+ * errors는 최대 MAX_ERRORS건까지만 담는다. (failed는 전체 실패 건수)
+ */
+@Getter
+@Builder
+public class BoardImportResponse {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private long total;
+    private long inserted;
+    private long failed;
+    private List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;       // 1부터 시작하는 데이터 행 번호 (CSV 헤더 제외)
+        private String message;
+    }
+}
@@ -31,6 +31,9 @@ public class BoardMasterResponse {
     private Boolean isShowDate;
     private Boolean isSearchFieldControl;
     private Boolean isTopPost;
+    private Boolean isPartitioned;
+    private Integer archiveAfterMonths;
+    private String archiveWatermark;    // 이 시각 이전 글은 보관 테이블에 있음 (null: 보관 이력 없음)
     private String createdDate;
     private String updatedDate;
 }
\ No newline at end of file
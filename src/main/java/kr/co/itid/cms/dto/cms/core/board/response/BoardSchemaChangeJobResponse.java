@@ -0,0 +1,33 @@
+package kr.co.itid.cms.dto.cms.core.board.response;
+
+import kr.co.itid.cms.enums.BoardSchemaChangeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시판 온라인 스키마 변경 작업 진행 상황
+ */
+@Getter
+@Builder
+public class BoardSchemaChangeJobResponse {
+
+    private Long idx;
+    private Long boardMasterIdx;
+    private String tableName;
+    private String alterSql;            // 섀도 테이블에 적용한 ALTER 절
+    private BoardSchemaChangeStatus status;
+    private long lastCopiedIdx;         // 복사 완료한 마지막 idx
+    private long maxIdx;                // 복사 대상 최대 idx (이후 행은 트리거로 반영)
+    private long copiedRows;
+    private String errorMessage;
+    private String createdDate;
+    private String updatedDate;
+    private String finishedDate;
+
+    /** 복사 진행률 (0~100) */
+    public double getProgress() {
+        if (status == BoardSchemaChangeStatus.DONE) return 100.0;
+        if (maxIdx <= 0) return status == BoardSchemaChangeStatus.CUTOVER ? 100.0 : 0.0;
+        return Math.min(100.0, Math.floor(lastCopiedIdx * 1000.0 / maxIdx) / 10.0);
+    }
+}
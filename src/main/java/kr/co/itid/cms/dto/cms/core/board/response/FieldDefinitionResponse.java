@@ -15,6 +15,8 @@ public class FieldDefinitionResponse {
     private String fieldType;
     private boolean required;
     private boolean searchable;
+    private boolean indexed;
+    private boolean sortable;
     private int fieldOrder;
     private String defaultValue;
     private String placeholder;
@@ -0,0 +1,37 @@
+package kr.co.itid.cms.dto.cms.core.common;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+/**
+ * 커서(keyset) 페이징 옵션
+ * cursor가 없으면 첫 페이지, direction=prev면 cursor 이전 페이지를 조회
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class CursorOption {
+
+    @Size(max = 64, message = "커서 값이 올바르지 않습니다.")
+    @Pattern(regexp = "^[A-Za-z0-9_-]*$", message = "커서 값이 올바르지 않습니다.")
+    private String cursor;  // null 가능 (첫 페이지)
+
+    @Pattern(regexp = "^(next|prev)$", message = "방향은 next 또는 prev만 사용할 수 있습니다.")
+    private String direction;  // null이면 next
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "페이지 크기는 50 이하여야 합니다.")
+    private Integer size;  // null이면 10
+
+    public boolean isBackward() {
+        return "prev".equals(direction);
+    }
+}
@@ -0,0 +1,34 @@
+package kr.co.itid.cms.dto.cms.core.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(keyset) 페이징 응답
+ * nextCursor / prevCursor를 다음 요청의 cursor로 전달 (direction=next / prev)
+ */
+@Getter
+@Builder
+public class CursorSliceResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private String nextCursor;
+    private String prevCursor;
+
+    public <R> CursorSliceResponse<R> map(Function<? super T, ? extends R> converter) {
+        return CursorSliceResponse.<R>builder()
+                .content(content.stream().map(converter).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
+}
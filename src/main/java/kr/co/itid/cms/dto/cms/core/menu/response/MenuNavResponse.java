@@ -0,0 +1,33 @@
+package kr.co.itid.cms.dto.cms.core.menu.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 권한 필터링된 내비게이션 트리 노드
+ * permissionMask: 현재 사용자에게 적용되는 권한 비트마스크 (PermissionBits)
+ */
+@Getter
+@Builder
+public class MenuNavResponse {
+    private Long id;
+    private Long parentId;
+    private String title;
+    private String name;
+    private String type;
+    private String value;
+    private Long level;
+
+    private Boolean isShow;
+
+    private String pathUrl;
+    private String pathId;
+
+    private int permissionMask;
+
+    @Builder.Default
+    private List<MenuNavResponse> children = new ArrayList<>();
+}
@@ -94,6 +94,15 @@ public class BoardMaster {
     @Column(name = "is_top_post", columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean isTopPost = false;
 
+    @Column(name = "is_partitioned", columnDefinition = "TINYINT(1) DEFAULT 0")
+    private Boolean isPartitioned = false;
+
+    @Column(name = "archive_after_months")
+    private Integer archiveAfterMonths;
+
+    @Column(name = "archive_watermark")
+    private LocalDateTime archiveWatermark;
+
     @CreatedDate
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
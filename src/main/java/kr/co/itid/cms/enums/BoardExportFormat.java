@@ -0,0 +1,32 @@
+package kr.co.itid.cms.enums;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public enum BoardExportFormat {
+    CSV("csv", "text/csv; charset=UTF-8"),
+    NDJSON("ndjson", "application/x-ndjson; charset=UTF-8");
+
+    private final String value;
+    private final String contentType;
+
+    BoardExportFormat(String value, String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    /**
+     * 요청 파라미터 → 형식 (미지원 형식은 IllegalArgumentException)
+     */
+    public static BoardExportFormat from(String value) {
+        if (value != null) {
+            String v = value.trim().toLowerCase(Locale.ROOT);
+            for (BoardExportFormat f : values()) {
+                if (f.value.equals(v)) return f;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.co.itid.cms.enums;
+
+/**
+ * 게시판 온라인 스키마 변경(섀도 테이블 복사) 작업 상태
+ * PENDING → COPYING → CUTOVER → DONE, 실패 시 FAILED
+ */
+public enum BoardSchemaChangeStatus {
+    PENDING,    // 대기 (섀도 테이블/트리거 준비 전)
+    COPYING,    // 기존 행 청크 복사 중 (신규 쓰기는 트리거로 반영)
+    CUTOVER,    // 복사 완료, RENAME 교체 중
+    DONE,
+    FAILED;
+
+    public boolean isActive() {
+        return this == PENDING || this == COPYING || this == CUTOVER;
+    }
+}
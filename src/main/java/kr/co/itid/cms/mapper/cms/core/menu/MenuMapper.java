@@ -1,6 +1,7 @@
 package kr.co.itid.cms.mapper.cms.core.menu;
 
 import kr.co.itid.cms.dto.cms.core.menu.request.MenuRequest;
+import kr.co.itid.cms.dto.cms.core.menu.response.MenuNavResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuTreeLiteResponse;
 import kr.co.itid.cms.dto.cms.core.menu.response.MenuTreeResponse;
@@ -44,6 +45,24 @@ public interface MenuMapper {
                 .build();
     }
 
+    @Named("toNavResponse")
+    default MenuNavResponse toNavResponse(Menu menu, int permissionMask, List<MenuNavResponse> children) {
+        return MenuNavResponse.builder()
+                .id(menu.getId())
+                .parentId(menu.getParentId())
+                .title(menu.getTitle())
+                .name(menu.getName())
+                .type(menu.getType())
+                .value(menu.getValue())
+                .level(menu.getLevel())
+                .isShow(menu.getIsShow())
+                .pathUrl(menu.getPathUrl())
+                .pathId(menu.getPathId())
+                .permissionMask(permissionMask)
+                .children(children)
+                .build();
+    }
+
     @Named("toFullResponse")
     default MenuTreeResponse toFullResponse(Menu menu, List<MenuTreeResponse> children) {
         return MenuTreeResponse.builder()
@@ -0,0 +1,53 @@
+package kr.co.itid.cms.repository.cms.core.board;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시판 파티션 유지보수 / 보관(archive) DAO 인터페이스입니다.
+ *
+ * - 파티션 게시판: p_max를 미리 분할해 앞으로 쓸 월 파티션을 확보하고,
+ *   보관 이동으로 비워진 지난 월 파티션을 제거합니다.
+ * - 보관 설정 게시판(archive_after_months): 삭제 글과 기준 월 이전 글을
+ *   압축 보관 테이블 board_{boardId}__archive로 청크 단위 이동합니다.
+ */
+public interface BoardArchiveDao {
+
+    /** 유지보수 대상 게시판 (테이블이 존재하는 파티션 게시판 또는 보관 설정 게시판) */
+    record Target(Long masterIdx, String boardId, String tableName, boolean partitioned, Integer archiveAfterMonths) {}
+
+    List<Target> findTargets() throws Exception;
+
+    /**
+     * 현재 월 + monthsAhead 까지 월 파티션 확보 (p_max REORGANIZE)
+     * @return 추가한 파티션 수 (파티션 테이블이 아니면 0)
+     */
+    int ensureFuturePartitions(String table, int monthsAhead) throws Exception;
+
+    /** 보관 테이블 생성 (원본과 같은 컬럼, 파티션/FULLTEXT 없음, ROW_FORMAT=COMPRESSED) */
+    void ensureArchiveTable(String table) throws Exception;
+
+    /**
+     * 보관 기준 시각을 cutoff 이상으로 올림 (이동 전에 먼저 반영해야 조회가 보관 테이블을 포함)
+     * @return 값이 바뀌었으면 true
+     */
+    boolean advanceWatermark(Long masterIdx, LocalDateTime cutoff) throws Exception;
+
+    /**
+     * 삭제 글 한 청크 이동 (호출 측 트랜잭션 안에서 실행)
+     * @return 이동한 행 수
+     */
+    int moveDeletedChunk(String table, int chunkSize);
+
+    /**
+     * cutoff 이전 작성 글 한 청크 이동 (호출 측 트랜잭션 안에서 실행)
+     * @return 이동한 행 수
+     */
+    int moveExpiredChunk(String table, LocalDateTime cutoff, int chunkSize);
+
+    /**
+     * 상한이 cutoff 이하이고 비어 있는 월 파티션 제거
+     * @return 제거한 파티션 수
+     */
+    int dropArchivedPartitions(String table, LocalDateTime cutoff) throws Exception;
+}
@@ -51,11 +51,13 @@ public interface BoardMasterDao {
 
     /**
      * 필드 정의 ↔ 물리 테이블 동기화
-     * - 컬럼 ADD/MODIFY/DROP
+     * - 컬럼 ADD/MODIFY/DROP (INSTANT → INPLACE → 대형 테이블은 섀도 테이블 작업)
+     * - 보조/FULLTEXT 인덱스 (컬럼 변경이 섀도 테이블 작업으로 넘어가면 교체 후 동기화)
      * - 보호 컬럼 제외
      * - 위험 변경 가드
+     * @return 등록된 스키마 변경 작업 IDX (즉시 적용된 경우 null)
      */
-    void syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception;
+    Long syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception;
 
     // -------------------- 삭제 --------------------
 
@@ -0,0 +1,15 @@
+package kr.co.itid.cms.repository.cms.core.board;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 게시판 행 스트리밍 수신자
+ * 행 값 배열은 재사용되므로 row() 호출 안에서만 유효하다.
+ */
+public interface BoardRowStreamHandler {
+
+    void header(List<String> columns) throws IOException;
+
+    void row(Object[] values) throws IOException;
+}
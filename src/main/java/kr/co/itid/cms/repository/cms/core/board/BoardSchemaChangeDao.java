@@ -0,0 +1,51 @@
+package kr.co.itid.cms.repository.cms.core.board;
+
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
+
+import java.util.List;
+
+/**
+ * 게시판 온라인 스키마 변경(섀도 테이블 복사) 작업 DAO 인터페이스입니다.
+ * 작업 상태는 board_schema_change_job 테이블에 저장되어 재기동 후에도 이어서 진행됩니다.
+ *
+ * 진행 순서: 섀도 테이블 생성 + ALTER → 원본 트리거(INSERT/UPDATE/DELETE 반영)
+ * → idx 범위 청크 복사(INSERT IGNORE) → RENAME TABLE 교체
+ */
+public interface BoardSchemaChangeDao {
+
+    /** 해당 테이블에 진행 중인 작업 존재 여부 */
+    boolean hasActiveJob(String table) throws Exception;
+
+    /** 작업 등록 (PENDING) 후 IDX 반환 */
+    Long enqueue(Long boardMasterIdx, String table, String alterClauses) throws Exception;
+
+    /**
+     * 실행할 작업 하나를 점유 (다른 노드가 점유 중이면 임대 만료 전까지 제외)
+     * @return 점유한 작업 (없으면 null)
+     */
+    BoardSchemaChangeJobResponse claimNext(String owner, int leaseSeconds) throws Exception;
+
+    /** 점유 해제 */
+    void release(Long jobIdx, String owner) throws Exception;
+
+    /** 작업 단건 */
+    BoardSchemaChangeJobResponse findByIdx(Long jobIdx) throws Exception;
+
+    /** 게시판별 작업 목록 (최신순) */
+    List<BoardSchemaChangeJobResponse> findByBoardMasterIdx(Long boardMasterIdx) throws Exception;
+
+    /** PENDING → COPYING: 섀도 테이블/트리거 생성, 복사 대상 최대 idx 확정 */
+    void prepare(BoardSchemaChangeJobResponse job) throws Exception;
+
+    /**
+     * 다음 idx 범위 복사 (복사 대상을 모두 마치면 CUTOVER)
+     * @return 복사된 행 수
+     */
+    long copyChunk(BoardSchemaChangeJobResponse job, long chunkSize) throws Exception;
+
+    /** CUTOVER → DONE: RENAME 교체, 트리거/이전 테이블 정리 */
+    void cutover(BoardSchemaChangeJobResponse job) throws Exception;
+
+    /** FAILED 처리: 트리거/섀도 테이블 정리 (원본 테이블은 그대로) */
+    void fail(Long jobIdx, String message) throws Exception;
+}
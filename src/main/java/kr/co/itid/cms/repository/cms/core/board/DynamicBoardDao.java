@@ -1,9 +1,12 @@
 package kr.co.itid.cms.repository.cms.core.board;
 
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
@@ -13,15 +16,31 @@ public interface DynamicBoardDao {
 
     Page<Map<String, Object>> selectListByMenuId(Long menuId, SearchOption option, PaginationOption pagination) throws Exception;
 
+    Slice<Map<String, Object>> selectSliceByMenuId(Long menuId, SearchOption option, PaginationOption pagination) throws Exception;
+
+    CursorSliceResponse<Map<String, Object>> selectCursorListByMenuId(Long menuId, SearchOption option, CursorOption cursor) throws Exception;
+
+    long streamByMenuId(Long menuId, SearchOption option, BoardRowStreamHandler handler) throws Exception;
+
     Map<String, Object> selectOneByMenuId(Long menuId, Long id) throws Exception;
 
     String selectRegIdByMenuId(Long menuId, Long id) throws Exception;
 
-    void increaseViewCountByMenuId(Long menuId, Long idx) throws Exception;
+    String getBoardIdByMenuId(Long menuId) throws Exception;
+
+    void increaseViewCounts(String boardId, Map<Long, Long> deltas);
 
     void insertByMenuId(Long menuId, Map<String, Object> data) throws Exception;
 
+    int batchInsertByMenuId(Long menuId, List<Map<String, Object>> rows) throws Exception;
+
     void updateByMenuId(Long menuId, Long id, Map<String, Object> data) throws Exception;
 
     void deleteByMenuId(Long menuId, Long id) throws Exception;
+
+    int updateOwnedByMenuId(Long menuId, Long id, String ownerId, Map<String, Object> data) throws Exception;
+
+    int deleteOwnedByMenuId(Long menuId, Long id, String ownerId) throws Exception;
+
+    boolean existsByMenuId(Long menuId, Long id) throws Exception;
 }
@@ -0,0 +1,209 @@
+package kr.co.itid.cms.repository.cms.core.board.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static kr.co.itid.cms.constanrt.RedisConstants.BOARD_COUNT_GEN_KEY_PREFIX;
+import static kr.co.itid.cms.constanrt.RedisConstants.BOARD_COUNT_KEY_PREFIX;
+import static kr.co.itid.cms.constanrt.RedisConstants.BOARD_COUNT_TTL;
+
+/**
+ * 게시판 목록 건수 캐시
+ *
+ * - 전체 건수(is_deleted = false, 검색 조건 없음): Redis 카운터 board:count:{boardId}
+ *   최초 조회 시 COUNT(*)로 초기화(SET NX + TTL), 이후 등록/삭제 커밋 시 INCR/DECR
+ *   TTL 만료 시 다시 COUNT(*)로 보정된다.
+ *   세대 키 board:count:gen:{boardId}로 COUNT(*)와 커밋 사이의 경합을 막는다.
+ *   - 카운터 값은 "초기화 세대:건수" (COUNT(*) 전에 읽은 세대가 그대로일 때만 초기화)
+ *   - 등록/삭제는 커밋 전에 세대를 올리고, 커밋 후 카운터가 그 이전 세대에 초기화된 경우에만 증감
+ *     (이후 세대에 초기화된 카운터는 이 변경의 포함 여부를 알 수 없으므로 제거 → 다음 조회에서 재계산)
+ * - 검색 조건이 있는 건수: 노드 로컬 단기 캐시 (조건 + 바인딩 값 단위)
+ * Redis 장애 시에는 COUNT(*)를 그대로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCountCache {
+
+    private static final Duration FILTERED_TTL = Duration.ofSeconds(10);
+
+    /** 세대 올림 (커밋 전) */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local g = redis.call('INCR', KEYS[1]) redis.call('EXPIRE', KEYS[1], ARGV[1]) return g",
+            Long.class);
+
+    /**
+     * 커밋 후 증감
+     * 카운터가 ARGV[2](이 변경의 세대)보다 앞선 세대에 초기화되었으면 증감(TTL 유지), 아니면 제거
+     * 카운터가 없거나 제거한 경우 세대를 올려 진행 중인 초기화를 무효화
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if v then " +
+            "  local sep = string.find(v, ':', 1, true) " +
+            "  local g = sep and tonumber(string.sub(v, 1, sep - 1)) or 0 " +
+            "  if g < tonumber(ARGV[2]) then " +
+            "    local n = tonumber(sep and string.sub(v, sep + 1) or v) + tonumber(ARGV[1]) " +
+            "    local ttl = redis.call('PTTL', KEYS[1]) " +
+            "    if ttl > 0 then redis.call('SET', KEYS[1], g .. ':' .. n, 'PX', ttl) " +
+            "    else redis.call('SET', KEYS[1], g .. ':' .. n) end " +
+            "    return n " +
+            "  end " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[3]) return nil",
+            Long.class);
+
+    /** COUNT(*) 전에 읽은 세대가 그대로일 때만 "세대:건수"로 초기화 (SET NX + TTL) */
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[1] .. ':' .. ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end return 0",
+            Long.class);
+
+    /** 카운터 제거 + 세대 올림 */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[1]) return 1",
+            Long.class);
+
+    private static final String TTL_SECONDS = String.valueOf(BOARD_COUNT_TTL.getSeconds());
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private Cache<Object, Long> filteredCounts;
+
+    @PostConstruct
+    void init() {
+        this.filteredCounts = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(FILTERED_TTL)
+                .build();
+    }
+
+    /**
+     * 검색 조건 없는 전체 건수
+     */
+    public long total(String boardId, LongSupplier counter) {
+        List<String> keys = keys(boardId);
+        String generation;
+        try {
+            // 카운터와 세대를 한 번에 조회 (세대는 COUNT(*)보다 먼저 읽어야 함)
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+            String cached = values != null ? values.get(0) : null;
+            if (cached != null) {
+                return Math.max(0L, countOf(cached));
+            }
+            generation = (values != null && values.get(1) != null) ? values.get(1) : "0";
+        } catch (Exception e) {
+            log.warn("[Board Count] 카운터 조회 실패: boardId={}, error={}", boardId, e.getMessage());
+            return counter.getAsLong();
+        }
+
+        long counted = counter.getAsLong();
+        try {
+            stringRedisTemplate.execute(INIT_SCRIPT, keys, generation, String.valueOf(counted), TTL_SECONDS);
+        } catch (Exception e) {
+            log.warn("[Board Count] 카운터 초기화 실패: boardId={}, error={}", boardId, e.getMessage());
+        }
+        return counted;
+    }
+
+    /**
+     * 검색 조건이 있는 건수 (단기 캐시)
+     * @param key 게시판/스키마 버전/조건 형태/바인딩 값을 모두 포함한 키
+     */
+    public long filtered(Object key, LongSupplier counter) {
+        return filteredCounts.get(key, k -> counter.getAsLong());
+    }
+
+    /** 등록 커밋 후 +1 */
+    public void increment(String boardId) {
+        adjustAfterCommit(boardId, 1);
+    }
+
+    /** 일괄 등록 커밋 후 +n */
+    public void increment(String boardId, long count) {
+        if (count > 0) {
+            adjustAfterCommit(boardId, count);
+        }
+    }
+
+    /** 삭제(soft delete) 커밋 후 -1 */
+    public void decrement(String boardId) {
+        adjustAfterCommit(boardId, -1);
+    }
+
+    /** 테이블 생성/삭제 시 카운터 제거 */
+    public void evict(String boardId) {
+        try {
+            stringRedisTemplate.execute(EVICT_SCRIPT, keys(boardId), TTL_SECONDS);
+        } catch (Exception e) {
+            log.warn("[Board Count] 카운터 삭제 실패: boardId={}, error={}", boardId, e.getMessage());
+        }
+    }
+
+    private void adjustAfterCommit(String boardId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 이미 반영된 변경 → 세대로 구분할 수 없으므로 제거 후 다음 조회에서 재계산
+            evict(boardId);
+            return;
+        }
+
+        // 커밋 전에 세대를 올려야 커밋 전후에 시작된 COUNT(*)를 구분할 수 있음
+        final Long generation = bumpGeneration(boardId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (generation == null) {
+                    evict(boardId);
+                } else {
+                    adjust(boardId, delta, generation);
+                }
+            }
+        });
+    }
+
+    private Long bumpGeneration(String boardId) {
+        try {
+            return stringRedisTemplate.execute(BUMP_SCRIPT,
+                    List.of(BOARD_COUNT_GEN_KEY_PREFIX + boardId), TTL_SECONDS);
+        } catch (Exception e) {
+            log.warn("[Board Count] 세대 갱신 실패: boardId={}, error={}", boardId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void adjust(String boardId, long delta, long generation) {
+        try {
+            stringRedisTemplate.execute(ADJUST_SCRIPT, keys(boardId),
+                    String.valueOf(delta), String.valueOf(generation), TTL_SECONDS);
+        } catch (Exception e) {
+            // 증감 실패 시 값이 틀어질 수 있으므로 제거 → 다음 조회에서 재계산
+            log.warn("[Board Count] 카운터 증감 실패: boardId={}, error={}", boardId, e.getMessage());
+            evict(boardId);
+        }
+    }
+
+    /** "세대:건수" → 건수 (세대가 없는 이전 형식 값도 허용) */
+    private static long countOf(String value) {
+        int sep = value.indexOf(':');
+        return Long.parseLong(sep >= 0 ? value.substring(sep + 1) : value);
+    }
+
+    /** [카운터 키, 세대 키] */
+    private static List<String> keys(String boardId) {
+        return List.of(BOARD_COUNT_KEY_PREFIX + boardId, BOARD_COUNT_GEN_KEY_PREFIX + boardId);
+    }
+}
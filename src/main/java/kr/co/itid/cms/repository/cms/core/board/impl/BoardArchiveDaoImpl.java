@@ -0,0 +1,184 @@
+package kr.co.itid.cms.repository.cms.core.board.impl;
+
+import kr.co.itid.cms.repository.cms.core.board.BoardArchiveDao;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardPartitions;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Repository("boardArchiveDao")
+@RequiredArgsConstructor
+public class BoardArchiveDaoImpl implements BoardArchiveDao {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public List<Target> findTargets() {
+        String sql = """
+            SELECT bm.idx, bm.board_id, COALESCE(bm.is_partitioned, 0) AS is_partitioned, bm.archive_after_months
+            FROM board_master bm
+            JOIN information_schema.TABLES t
+              ON t.TABLE_SCHEMA = DATABASE() AND t.TABLE_NAME = CONCAT('board_', bm.board_id)
+            WHERE bm.is_partitioned = 1 OR bm.archive_after_months IS NOT NULL
+            ORDER BY bm.idx
+        """;
+        return jdbc.query(sql, Map.of(), (rs, rowNum) -> {
+            int months = rs.getInt("archive_after_months");
+            Integer archiveAfterMonths = rs.wasNull() ? null : months;
+            return new Target(
+                    rs.getLong("idx"),
+                    rs.getString("board_id"),
+                    "board_" + rs.getString("board_id"),
+                    rs.getBoolean("is_partitioned"),
+                    archiveAfterMonths
+            );
+        });
+    }
+
+    // ==================== 파티션 ====================
+
+    @Override
+    public int ensureFuturePartitions(String table, int monthsAhead) {
+        List<String> partitions = partitionNames(table);
+        if (!partitions.contains(BoardPartitions.MAX)) return 0;
+
+        YearMonth last = partitions.stream()
+                .map(BoardPartitions::monthOf)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth from = (last != null) ? last.plusMonths(1) : YearMonth.now();
+        if (from.isAfter(target)) return 0;
+
+        // p_max에는 아직 만들지 않은 월의 글만 있으므로 보통 비어 있음 → 빠르게 분할
+        execute(BoardPartitions.reorganizeMaxClause(table, from, target));
+        return (int) ChronoUnit.MONTHS.between(from, target) + 1;
+    }
+
+    @Override
+    public int dropArchivedPartitions(String table, LocalDateTime cutoff) {
+        int dropped = 0;
+        for (String partition : partitionNames(table)) {
+            YearMonth month = BoardPartitions.monthOf(partition);
+            if (month == null || BoardPartitions.upperBound(month).atStartOfDay().isAfter(cutoff)) continue;
+
+            // 보관 이동이 끝나 비어 있는 파티션만 제거 (남은 행이 있으면 다음 회차에 재시도)
+            Boolean hasRows = jdbc.queryForObject(
+                    "SELECT EXISTS(SELECT 1 FROM " + table + " PARTITION (" + partition + ") LIMIT 1)",
+                    Map.of(), Boolean.class);
+            if (Boolean.TRUE.equals(hasRows)) continue;
+
+            execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    // ==================== 보관 ====================
+
+    @Override
+    public void ensureArchiveTable(String table) {
+        String archive = BoardSchema.archiveTableName(table);
+        if (tableExists(archive)) return;
+
+        execute("CREATE TABLE " + archive + " LIKE " + table);
+        if (!partitionNames(archive).isEmpty()) {
+            execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+        // 보관 테이블은 LIKE 검색만 사용 → FULLTEXT 인덱스 유지 비용 제거
+        List<String> fulltext = jdbc.queryForList("""
+            SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl AND INDEX_TYPE = 'FULLTEXT'
+        """, Map.of("tbl", archive), String.class);
+        for (String index : fulltext) {
+            execute("ALTER TABLE " + archive + " DROP INDEX " + index);
+        }
+        execute("ALTER TABLE " + archive + " ROW_FORMAT=COMPRESSED");
+    }
+
+    @Override
+    public boolean advanceWatermark(Long masterIdx, LocalDateTime cutoff) {
+        int updated = jdbc.update("""
+            UPDATE board_master
+               SET archive_watermark = :cutoff
+             WHERE idx = :idx
+               AND (archive_watermark IS NULL OR archive_watermark < :cutoff)
+        """, Map.of("idx", masterIdx, "cutoff", cutoff));
+        return updated > 0;
+    }
+
+    @Override
+    public int moveDeletedChunk(String table, int chunkSize) {
+        return moveChunk(table, "is_deleted = true", new MapSqlParameterSource(), chunkSize);
+    }
+
+    @Override
+    public int moveExpiredChunk(String table, LocalDateTime cutoff, int chunkSize) {
+        return moveChunk(table, "created_date < :cutoff", new MapSqlParameterSource("cutoff", cutoff), chunkSize);
+    }
+
+    /**
+     * 조건에 맞는 행을 idx 순으로 잠그고 보관 테이블에 복사한 뒤 삭제
+     * SKIP LOCKED → 여러 노드가 동시에 실행해도 서로 다른 행을 처리
+     */
+    private int moveChunk(String table, String condition, MapSqlParameterSource params, int chunkSize) {
+        String archive = BoardSchema.archiveTableName(table);
+
+        params.addValue("limit", chunkSize);
+        List<Long> ids = jdbc.queryForList(
+                "SELECT idx FROM " + table + " WHERE " + condition +
+                " ORDER BY idx LIMIT :limit FOR UPDATE SKIP LOCKED",
+                params, Long.class);
+        if (ids.isEmpty()) return 0;
+
+        String colList = String.join(", ", commonColumns(table, archive));
+        Map<String, Object> idParams = Map.of("ids", ids);
+        jdbc.update("INSERT INTO " + archive + " (" + colList + ") " +
+                "SELECT " + colList + " FROM " + table + " WHERE idx IN (:ids)", idParams);
+        return jdbc.update("DELETE FROM " + table + " WHERE idx IN (:ids)", idParams);
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private List<String> partitionNames(String table) {
+        return jdbc.queryForList("""
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+        """, Map.of("tbl", table), String.class);
+    }
+
+    private boolean tableExists(String table) {
+        Integer cnt = jdbc.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl
+        """, Map.of("tbl", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
+    /** 원본/보관 양쪽에 있는 컬럼 (원본 순서) */
+    private List<String> commonColumns(String table, String archive) {
+        String sql = """
+            SELECT COLUMN_NAME FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl
+            ORDER BY ORDINAL_POSITION
+        """;
+        List<String> cols = new ArrayList<>(jdbc.queryForList(sql, Map.of("tbl", table), String.class));
+        Set<String> archiveCols = new HashSet<>(jdbc.queryForList(sql, Map.of("tbl", archive), String.class));
+        cols.retainAll(archiveCols);
+        return cols;
+    }
+
+    private void execute(String sql) {
+        jdbc.getJdbcTemplate().execute(sql);
+    }
+}
@@ -5,24 +5,47 @@ import kr.co.itid.cms.dto.cms.core.board.request.BoardMasterRequest;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardFieldDefinitionResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterResponse;
 import kr.co.itid.cms.repository.cms.core.board.BoardMasterDao;
+import kr.co.itid.cms.repository.cms.core.board.BoardSchemaChangeDao;
+import kr.co.itid.cms.repository.cms.core.board.count.BoardCountCache;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardPartitions;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 @Repository("boardMasterDao")
 @RequiredArgsConstructor
 public class BoardMasterDaoImpl implements BoardMasterDao {
 
     private final NamedParameterJdbcTemplate jdbc;
+    private final BoardCountCache boardCountCache;
+    private final BoardSchemaChangeDao boardSchemaChangeDao;
+
+    // 이 행 수 이하 테이블은 온라인 ALTER가 불가해도 즉시 ALTER(COPY)로 처리
+    @Value("${board.schema-change.copy-inline-max-rows:10000}")
+    private long copyInlineMaxRows;
+
+    // 파티션 게시판 생성 시 미리 만들어 둘 미래 월 수
+    @Value("${board.partition.months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    private static final List<String> ONLINE_ALGORITHMS = List.of(
+            "ALGORITHM=INSTANT",
+            "ALGORITHM=INPLACE, LOCK=NONE");
 
     // 순서 보장을 위해 실제 구현체는 LinkedHashMap으로 만들고,
     // 참조 타입은 Map으로 선언(언modifiable 뷰를 대입 가능)
@@ -93,6 +116,9 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                 bm.is_show_date,
                 bm.is_search_field_control,
                 bm.is_top_post,
+                bm.is_partitioned,
+                bm.archive_after_months,
+                DATE_FORMAT(bm.archive_watermark, '%Y-%m-%d %H:%i:%s') AS archive_watermark,
                 DATE_FORMAT(bm.created_date, '%Y-%m-%d %H:%i:%s') AS created_date,
                 DATE_FORMAT(bm.updated_date, '%Y-%m-%d %H:%i:%s') AS updated_date
             FROM board_master bm
@@ -127,6 +153,9 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                         .isShowDate(getNullableBoolean(rs, "is_show_date"))
                         .isSearchFieldControl(getNullableBoolean(rs, "is_search_field_control"))
                         .isTopPost(getNullableBoolean(rs, "is_top_post"))
+                        .isPartitioned(getNullableBoolean(rs, "is_partitioned"))
+                        .archiveAfterMonths(getNullableInt(rs, "archive_after_months"))
+                        .archiveWatermark(rs.getString("archive_watermark"))
                         .createdDate(rs.getString("created_date"))
                         .updatedDate(rs.getString("updated_date"))
                         .build()
@@ -152,6 +181,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                 field_type,
                 is_required,
                 is_searchable,
+                is_indexed,
+                is_sortable,
                 field_order,
                 default_value,
                 placeholder,
@@ -170,6 +201,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                         .fieldType(rs.getString("field_type"))
                         .isRequired(rs.getBoolean("is_required"))
                         .isSearchable(rs.getBoolean("is_searchable"))
+                        .isIndexed(rs.getBoolean("is_indexed"))
+                        .isSortable(rs.getBoolean("is_sortable"))
                         .fieldOrder(rs.getInt("field_order"))
                         .defaultValue(rs.getString("default_value"))
                         .placeholder(rs.getString("placeholder"))
@@ -190,7 +223,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                 max_file_size, allowed_images, max_image_size,
                 is_sms_alert, is_required_fields, is_comment, is_use_period,
                 is_author_posts_view, is_admin_deleted_view, list_count,
-                is_show_author, is_show_date, is_search_field_control, is_top_post
+                is_show_author, is_show_date, is_search_field_control, is_top_post,
+                is_partitioned, archive_after_months
             FROM board_master
             WHERE idx=:idx
             LIMIT 1
@@ -221,6 +255,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                         .isShowDate(getNullableBoolean(rs, "is_show_date"))
                         .isSearchFieldControl(getNullableBoolean(rs, "is_search_field_control"))
                         .isTopPost(getNullableBoolean(rs, "is_top_post"))
+                        .isPartitioned(getNullableBoolean(rs, "is_partitioned"))
+                        .archiveAfterMonths(getNullableInt(rs, "archive_after_months"))
                         .build()
         );
         return list.isEmpty() ? null : list.get(0);
@@ -231,7 +267,7 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
     public List<BoardFieldDefinitionRequest> getFieldSnapshot(Long boardMasterIdx) {
         String sql = """
             SELECT field_name, display_name, field_type,
-                   is_required, is_searchable, field_order,
+                   is_required, is_searchable, is_indexed, is_sortable, field_order,
                    default_value, placeholder
             FROM board_field_definition
             WHERE board_master_idx=:idx
@@ -244,6 +280,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                         .fieldType(rs.getString("field_type"))
                         .isRequired(rs.getBoolean("is_required"))
                         .isSearchable(rs.getBoolean("is_searchable"))
+                        .isIndexed(rs.getBoolean("is_indexed"))
+                        .isSortable(rs.getBoolean("is_sortable"))
                         .fieldOrder(rs.getInt("field_order"))
                         .defaultValue(rs.getString("default_value"))
                         .placeholder(rs.getString("placeholder"))
@@ -263,7 +301,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
            max_file_size, allowed_images, max_image_size,
            is_sms_alert, is_required_fields, is_comment, is_use_period,
            is_author_posts_view, is_admin_deleted_view, list_count,
-           is_show_author, is_show_date, is_search_field_control, is_top_post)
+           is_show_author, is_show_date, is_search_field_control, is_top_post,
+           is_partitioned, archive_after_months)
         VALUES
           (:boardId, :boardName, :boardType, :description, :isUse,
            :isAdminApproval, :isPrivacyOption,
@@ -271,7 +310,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
            :maxFileSize, :allowedImages, :maxImageSize,
            :isSmsAlert, :isRequiredFields, :isComment, :isUsePeriod,
            :isAuthorPostsView, :isAdminDeletedView, :listCount,
-           :isShowAuthor, :isShowDate, :isSearchFieldControl, :isTopPost)
+           :isShowAuthor, :isShowDate, :isSearchFieldControl, :isTopPost,
+           :isPartitioned, :archiveAfterMonths)
     """;
 
         MapSqlParameterSource p = new MapSqlParameterSource()
@@ -298,7 +338,9 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                 .addValue("isShowAuthor", Optional.ofNullable(req.getIsShowAuthor()).orElse(true))
                 .addValue("isShowDate", Optional.ofNullable(req.getIsShowDate()).orElse(true))
                 .addValue("isSearchFieldControl", Optional.ofNullable(req.getIsSearchFieldControl()).orElse(false))
-                .addValue("isTopPost", Optional.ofNullable(req.getIsTopPost()).orElse(false));
+                .addValue("isTopPost", Optional.ofNullable(req.getIsTopPost()).orElse(false))
+                .addValue("isPartitioned", Optional.ofNullable(req.getIsPartitioned()).orElse(false))
+                .addValue("archiveAfterMonths", req.getArchiveAfterMonths());
 
         KeyHolder kh = new GeneratedKeyHolder();
         jdbc.update(sql, p, kh);
@@ -313,10 +355,10 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         String sql = """
         INSERT INTO board_field_definition
           (board_master_idx, field_name, display_name, field_type,
-           is_required, is_searchable, field_order, default_value, placeholder)
+           is_required, is_searchable, is_indexed, is_sortable, field_order, default_value, placeholder)
         VALUES
           (:masterIdx, :fieldName, :displayName, :fieldType,
-           :isRequired, :isSearchable, :fieldOrder, :defaultValue, :placeholder)
+           :isRequired, :isSearchable, :isIndexed, :isSortable, :fieldOrder, :defaultValue, :placeholder)
     """;
 
         MapSqlParameterSource[] batch = fields.stream()
@@ -327,6 +369,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                         .addValue("fieldType", f.getFieldType())
                         .addValue("isRequired", Boolean.TRUE.equals(f.getIsRequired()))
                         .addValue("isSearchable", Boolean.TRUE.equals(f.getIsSearchable()))
+                        .addValue("isIndexed", Boolean.TRUE.equals(f.getIsIndexed()))
+                        .addValue("isSortable", !Boolean.FALSE.equals(f.getIsSortable())) // 미지정 시 정렬 허용 (기존 동작)
                         .addValue("fieldOrder", Optional.ofNullable(f.getFieldOrder()).orElse(0))
                         .addValue("defaultValue", f.getDefaultValue())
                         .addValue("placeholder", f.getPlaceholder()))
@@ -341,12 +385,25 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         Long masterIdx = getMasterIdxByBoardId(boardId); // 생성하지 않음
         List<FieldDef> defs = loadFieldDefs(masterIdx);
 
-        String ddl = buildCreateTableDDL(table, defs);
+        String ddl = buildCreateTableDDL(table, defs, isPartitionedBoard(masterIdx));
         jdbc.getJdbcTemplate().execute(ddl);
 
         // MySQL 8.0.13+만 IF NOT EXISTS 지원. 낮은 버전이면 try/catch 처리
         jdbc.getJdbcTemplate().execute("CREATE INDEX IF NOT EXISTS idx_" + table + "__isdel_created ON " + table + " (is_deleted, created_date)");
         jdbc.getJdbcTemplate().execute("CREATE INDEX IF NOT EXISTS idx_" + table + "__created ON " + table + " (created_date)");
+        // 빈 테이블이므로 바로 적용
+        List<String> indexChanges = concat(fulltextIndexChanges(table, defs), fieldIndexChanges(table, defs));
+        if (!indexChanges.isEmpty()) {
+            String alter = "ALTER TABLE " + table + " " + String.join(", ", indexChanges);
+            try {
+                jdbc.getJdbcTemplate().execute(alter);
+            } catch (Exception e) {
+                throw new EgovBizException("[인덱스 생성 실패] " + e.getMessage() + "\nSQL:\n" + alter, e);
+            }
+        }
+
+        // 같은 boardId로 재생성된 경우 이전 테이블의 건수 카운터 제거
+        boardCountCache.evict(boardId);
     }
 
     // ==================== 수정 ====================
@@ -378,6 +435,7 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                    is_show_date=:isShowDate,
                    is_search_field_control=:isSearchFieldControl,
                    is_top_post=:isTopPost,
+                   archive_after_months=:archiveAfterMonths,
                    updated_date=CURRENT_TIMESTAMP
              WHERE idx=:idx
         """;
@@ -405,7 +463,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
                 .addValue("isShowAuthor", Optional.ofNullable(req.getIsShowAuthor()).orElse(true))
                 .addValue("isShowDate", Optional.ofNullable(req.getIsShowDate()).orElse(true))
                 .addValue("isSearchFieldControl", Optional.ofNullable(req.getIsSearchFieldControl()).orElse(false))
-                .addValue("isTopPost", Optional.ofNullable(req.getIsTopPost()).orElse(false));
+                .addValue("isTopPost", Optional.ofNullable(req.getIsTopPost()).orElse(false))
+                .addValue("archiveAfterMonths", req.getArchiveAfterMonths());
         jdbc.update(sql, p);
     }
 
@@ -416,12 +475,61 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
     }
 
     @Override
-    public void syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception {
+    public Long syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception {
         String boardId = findBoardIdByIdx(boardMasterIdx);
         if (boardId == null) throw new EgovBizException("boardId not found for idx=" + boardMasterIdx);
         String table = tableName(boardId);
 
+        // 섀도 테이블 복사 중에는 원본 구조를 바꾸지 않는다 (트리거/복사 컬럼 불일치 방지)
+        if (boardSchemaChangeDao.hasActiveJob(table)) {
+            throw new EgovBizException("[스키마 변경 진행 중] 완료 후 다시 시도하세요. table=" + table);
+        }
+
         List<FieldDef> targetDefs = loadFieldDefs(boardMasterIdx);
+        List<String> changes = columnChanges(table, targetDefs);
+
+        Long jobIdx = null;
+        if (!changes.isEmpty()) {
+            jobIdx = alterOnline(boardMasterIdx, table, String.join(",\n  ", changes));
+        }
+
+        // 보관 테이블도 같은 컬럼 구성 유지 (UNION ALL 조회/이동). 조회 빈도가 낮아 즉시 ALTER
+        String archive = BoardSchema.archiveTableName(table);
+        if (tableExists(archive)) {
+            List<String> archiveChanges = columnChanges(archive, targetDefs);
+            if (!archiveChanges.isEmpty()) {
+                String alter = "ALTER TABLE " + archive + "\n  " + String.join(",\n  ", archiveChanges);
+                try {
+                    jdbc.getJdbcTemplate().execute(alter);
+                } catch (Exception e) {
+                    throw new EgovBizException("[보관 테이블 ALTER 실패] " + e.getMessage() + "\nSQL:\n" + alter, e);
+                }
+            }
+        }
+
+        // 섀도 테이블 작업으로 넘어간 경우 원본에는 새 컬럼이 아직 없음 → 교체 후 다시 동기화된다
+        if (jobIdx != null) return jobIdx;
+
+        // 컬럼 변경이 없어도 검색/인덱스 필드 지정이 바뀌었을 수 있으므로 항상 확인
+        // 보조 인덱스는 INPLACE/LOCK=NONE으로 적용되고, FULLTEXT 추가는 LOCK=NONE이 불가하므로
+        // 대형 테이블이면 섀도 테이블 작업으로 넘어간다 (남은 변경은 교체 후 동기화에서 처리)
+        List<String> fieldIndexes = fieldIndexChanges(table, targetDefs);
+        if (!fieldIndexes.isEmpty()) {
+            jobIdx = alterOnline(boardMasterIdx, table, String.join(",\n  ", fieldIndexes));
+        }
+        if (jobIdx == null) {
+            List<String> fulltext = fulltextIndexChanges(table, targetDefs);
+            if (!fulltext.isEmpty()) {
+                jobIdx = alterOnline(boardMasterIdx, table, String.join(",\n  ", fulltext));
+            }
+        }
+        return jobIdx;
+    }
+
+    /**
+     * 정의 대비 물리 테이블 컬럼 변경 절 (ADD → MODIFY → DROP 순, 보호 컬럼 제외)
+     */
+    private List<String> columnChanges(String table, List<FieldDef> targetDefs) throws Exception {
         Map<String, ColumnInfo> actual = loadActualColumns(table);
 
         Map<String, FieldDef> targetMap = targetDefs.stream()
@@ -476,17 +584,153 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
             }
         }
 
-        if (toAdd.isEmpty() && toModify.isEmpty() && toDrop.isEmpty()) return;
+        return concat(concat(toAdd, toModify), toDrop);
+    }
 
-        String alter = "ALTER TABLE " + table + "\n  " +
-                String.join(",\n  ", concat(concat(toAdd, toModify), toDrop)) + ";";
+    /**
+     * 컬럼 변경을 쓰기 차단 없이 적용
+     * 1) ALGORITHM=INSTANT (메타데이터만 변경)
+     * 2) ALGORITHM=INPLACE, LOCK=NONE (재구성하지만 DML 허용)
+     * 3) 둘 다 불가(타입 변경 등)하면 소형 테이블은 기존처럼 즉시 ALTER,
+     *    대형 테이블은 섀도 테이블 복사 작업으로 등록
+     *
+     * @return 등록된 스키마 변경 작업 IDX (즉시 적용된 경우 null)
+     */
+    private Long alterOnline(Long boardMasterIdx, String table, String clauses) throws Exception {
+        String alter = "ALTER TABLE " + table + "\n  " + clauses;
 
-        try {
-            jdbc.getJdbcTemplate().execute(alter);
-        } catch (Exception e) {
-            // 최종 ALTER 실패 시 전체 SQL을 포함해서 바로 재현·디버깅 가능하게
-            throw new EgovBizException("[ALTER 실패] " + e.getMessage() + "\nSQL:\n" + alter, e);
+        for (String algorithm : ONLINE_ALGORITHMS) {
+            String sql = alter + ",\n  " + algorithm;
+            try {
+                jdbc.getJdbcTemplate().execute(sql);
+                return null;
+            } catch (DataAccessException e) {
+                if (!isAlgorithmUnsupported(e)) {
+                    // 최종 ALTER 실패 시 전체 SQL을 포함해서 바로 재현·디버깅 가능하게
+                    throw new EgovBizException("[ALTER 실패] " + e.getMessage() + "\nSQL:\n" + sql, e);
+                }
+            }
+        }
+
+        if (estimateRows(table) <= copyInlineMaxRows) {
+            try {
+                jdbc.getJdbcTemplate().execute(alter);
+                return null;
+            } catch (Exception e) {
+                throw new EgovBizException("[ALTER 실패] " + e.getMessage() + "\nSQL:\n" + alter, e);
+            }
+        }
+        return boardSchemaChangeDao.enqueue(boardMasterIdx, table, clauses);
+    }
+
+    /** 요청한 ALGORITHM/LOCK으로 수행할 수 없다는 오류인지 (ER_ALTER_OPERATION_NOT_SUPPORTED[_REASON]) */
+    private boolean isAlgorithmUnsupported(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException) {
+                int code = ((SQLException) t).getErrorCode();
+                if (code == 1845 || code == 1846) return true;
+            }
         }
+        return false;
+    }
+
+    /** 통계 기반 예상 행 수 (COUNT(*) 없이) */
+    private long estimateRows(String table) {
+        Long rows = jdbc.queryForObject("""
+            SELECT COALESCE(TABLE_ROWS, 0)
+            FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+        """, Map.of("tbl", table), Long.class);
+        return rows != null ? rows : 0L;
+    }
+
+    /**
+     * is_indexed 필드별 보조 인덱스 동기화: idx_{table}__f_{field} (is_deleted, field, idx)
+     * 목록 조회(WHERE is_deleted = false ORDER BY field, idx)가 filesort 없이 인덱스 순서로 읽도록 한다.
+     * TEXT/BLOB 컬럼은 접두 길이 없이 인덱스를 만들 수 없으므로 제외한다.
+     */
+    private List<String> fieldIndexChanges(String table, List<FieldDef> defs) {
+        String prefix = "idx_" + table + "__f_";
+
+        Map<String, String> target = new LinkedHashMap<>(); // 인덱스명 → 컬럼
+        for (FieldDef f : defs) {
+            if (!Boolean.TRUE.equals(f.isIndexed)) continue;
+            String dbType = DB_TYPE_MAP.getOrDefault(f.fieldType.trim().toUpperCase(Locale.ROOT), f.fieldType);
+            if (isTextOrBlob(dbType.toUpperCase(Locale.ROOT))) continue;
+            target.put(indexName(prefix, f.fieldName), f.fieldName);
+        }
+
+        Set<String> actual = jdbc.queryForList("""
+            SELECT DISTINCT INDEX_NAME
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+        """, Map.of("tbl", table), String.class).stream()
+                .filter(name -> name.startsWith(prefix) || target.containsKey(name))
+                .collect(Collectors.toSet());
+
+        List<String> ddl = new ArrayList<>();
+        for (String name : actual) {
+            if (!target.containsKey(name)) {
+                ddl.add("DROP INDEX " + name);
+            }
+        }
+        for (Map.Entry<String, String> e : target.entrySet()) {
+            if (!actual.contains(e.getKey())) {
+                ddl.add("ADD INDEX " + e.getKey() + " (is_deleted, " + e.getValue() + ", idx)");
+            }
+        }
+        return ddl;
+    }
+
+    /**
+     * MySQL 식별자 길이(64자) 제한: 넘으면 잘라내고 CRC32 접미사로 구분
+     */
+    private String indexName(String prefix, String field) {
+        String name = prefix + field;
+        if (name.length() <= 64) return name;
+        CRC32 crc = new CRC32();
+        crc.update(name.getBytes(StandardCharsets.UTF_8));
+        String suffix = "_" + Long.toHexString(crc.getValue());
+        return name.substring(0, 64 - suffix.length()) + suffix;
+    }
+
+    /**
+     * 검색 필드(is_searchable, 문자형) FULLTEXT 인덱스 동기화 (ngram 파서: 한글 부분 일치)
+     * 현재 인덱스 컬럼과 목표 컬럼이 다를 때만 재생성한다.
+     */
+    private List<String> fulltextIndexChanges(String table, List<FieldDef> defs) {
+        String indexName = BoardSchema.fulltextIndexName(table);
+
+        // 파티션 테이블은 FULLTEXT 미지원 → 검색은 LIKE
+        if (isPartitionedTable(table)) return List.of();
+
+        List<String> target = defs.stream()
+                .filter(f -> Boolean.TRUE.equals(f.isSearchable))
+                .filter(f -> isCharacterType(DB_TYPE_MAP.getOrDefault(f.fieldType.trim().toUpperCase(Locale.ROOT), f.fieldType)))
+                .map(f -> f.fieldName)
+                .collect(Collectors.toList());
+
+        List<String> actual = jdbc.queryForList("""
+            SELECT COLUMN_NAME
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+              AND INDEX_NAME = :idx
+            ORDER BY SEQ_IN_INDEX
+        """, Map.of("tbl", table, "idx", indexName), String.class);
+
+        if (actual.equals(target)) return List.of();
+
+        List<String> ddl = new ArrayList<>();
+        if (!actual.isEmpty()) {
+            ddl.add("DROP INDEX " + indexName);
+        }
+        if (!target.isEmpty()) {
+            ddl.add("ADD FULLTEXT INDEX " + indexName + " (" + String.join(", ", target) + ") WITH PARSER ngram");
+        }
+        return ddl;
     }
 
     // ==================== 삭제 ====================
@@ -504,6 +748,8 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
     @Override
     public void dropBoardTable(String boardId) {
         jdbc.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + tableName(boardId));
+        jdbc.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + BoardSchema.archiveTableName(tableName(boardId)));
+        boardCountCache.evict(boardId);
     }
 
     /** [보상용] 존재하면 드롭(없으면 무시) */
@@ -528,9 +774,37 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         throw new IllegalStateException("board_master not found: board_id=" + boardId);
     }
 
+    private boolean isPartitionedBoard(Long masterIdx) {
+        Boolean partitioned = jdbc.queryForObject(
+                "SELECT COALESCE(is_partitioned, 0) FROM board_master WHERE idx=:idx",
+                Map.of("idx", masterIdx), Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private boolean tableExists(String table) {
+        Integer cnt = jdbc.queryForObject("""
+            SELECT COUNT(*)
+            FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+        """, Map.of("tbl", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
+    private boolean isPartitionedTable(String table) {
+        Integer cnt = jdbc.queryForObject("""
+            SELECT COUNT(*)
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+              AND PARTITION_NAME IS NOT NULL
+        """, Map.of("tbl", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
     private List<FieldDef> loadFieldDefs(Long masterIdx) {
         String sql = """
-            SELECT field_name, display_name, field_type, is_required, is_searchable, field_order, default_value, placeholder
+            SELECT field_name, display_name, field_type, is_required, is_searchable, is_indexed, field_order, default_value, placeholder
             FROM board_field_definition
             WHERE board_master_idx=:idx
             ORDER BY field_order ASC, id ASC
@@ -542,6 +816,7 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
             f.fieldType = rs.getString("field_type");
             f.isRequired = rs.getBoolean("is_required");
             f.isSearchable = rs.getBoolean("is_searchable");
+            f.isIndexed = rs.getBoolean("is_indexed");
             f.fieldOrder = rs.getInt("field_order");
             f.defaultValue = rs.getString("default_value");
             f.placeholder = rs.getString("placeholder");
@@ -567,10 +842,11 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         return list.stream().collect(Collectors.toMap(ci -> ci.columnName, ci -> ci));
     }
 
-    private String buildCreateTableDDL(String table, List<FieldDef> defs) throws Exception {
-        // 1) 시스템 컬럼
+    private String buildCreateTableDDL(String table, List<FieldDef> defs, boolean partitioned) throws Exception {
+        // 1) 시스템 컬럼 (파티션 테이블은 PK에 파티션 키 포함)
         List<String> baseCols = SYSTEM_COLS.entrySet().stream()
-                .map(e -> e.getKey() + " " + e.getValue())
+                .map(e -> e.getKey() + " " + (partitioned && "idx".equals(e.getKey())
+                        ? "BIGINT NOT NULL AUTO_INCREMENT" : e.getValue()))
                 .collect(Collectors.toList());
 
         // 2) 동적 컬럼 (order 보장 + 시스템 컬럼명 충돌 가드)
@@ -586,9 +862,18 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
             dynCols.add(toColumnDDL(f)); // 예외 전파 그대로
         }
 
+        if (!partitioned) {
+            return "CREATE TABLE " + table + " (\n  " +
+                    String.join(",\n  ", concat(baseCols, dynCols)) +
+                    "\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        }
+
+        YearMonth current = YearMonth.now();
         return "CREATE TABLE " + table + " (\n  " +
                 String.join(",\n  ", concat(baseCols, dynCols)) +
-                "\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+                ",\n  PRIMARY KEY (idx, created_date)" +
+                "\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4\n" +
+                BoardPartitions.createClause(current, current.plusMonths(partitionMonthsAhead)) + ";";
     }
 
     private String toColumnDDL(FieldDef f) throws Exception {
@@ -647,6 +932,11 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         return s;
     }
 
+    private boolean isCharacterType(String dbType) {
+        String up = dbType.toUpperCase(Locale.ROOT);
+        return up.contains("CHAR") || up.contains("TEXT");
+    }
+
     private boolean isTextOrBlob(String up) {
         return up.contains("TEXT") || up.contains("BLOB");
     }
@@ -706,6 +996,7 @@ public class BoardMasterDaoImpl implements BoardMasterDao {
         String fieldType;
         Boolean isRequired;
         Boolean isSearchable;
+        Boolean isIndexed;
         Integer fieldOrder;
         String defaultValue;
         String placeholder;
@@ -0,0 +1,270 @@
+package kr.co.itid.cms.repository.cms.core.board.impl;
+
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
+import kr.co.itid.cms.enums.BoardSchemaChangeStatus;
+import kr.co.itid.cms.repository.cms.core.board.BoardSchemaChangeDao;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Repository("boardSchemaChangeDao")
+@RequiredArgsConstructor
+public class BoardSchemaChangeDaoImpl implements BoardSchemaChangeDao {
+
+    private static final String ACTIVE_STATUSES = "('PENDING', 'COPYING', 'CUTOVER')";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    private static final String SELECT_JOB = """
+        SELECT idx, board_master_idx, table_name, alter_sql, status,
+               last_copied_idx, max_idx, copied_rows, error_message,
+               created_date, updated_date, finished_date
+        FROM board_schema_change_job
+    """;
+
+    private static final RowMapper<BoardSchemaChangeJobResponse> JOB_MAPPER = (rs, rowNum) ->
+            BoardSchemaChangeJobResponse.builder()
+                    .idx(rs.getLong("idx"))
+                    .boardMasterIdx(rs.getLong("board_master_idx"))
+                    .tableName(rs.getString("table_name"))
+                    .alterSql(rs.getString("alter_sql"))
+                    .status(BoardSchemaChangeStatus.valueOf(rs.getString("status")))
+                    .lastCopiedIdx(rs.getLong("last_copied_idx"))
+                    .maxIdx(rs.getLong("max_idx"))
+                    .copiedRows(rs.getLong("copied_rows"))
+                    .errorMessage(rs.getString("error_message"))
+                    .createdDate(rs.getString("created_date"))
+                    .updatedDate(rs.getString("updated_date"))
+                    .finishedDate(rs.getString("finished_date"))
+                    .build();
+
+    // ==================== 작업 관리 ====================
+
+    @Override
+    public boolean hasActiveJob(String table) {
+        Integer cnt = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM board_schema_change_job WHERE table_name = :tbl AND status IN " + ACTIVE_STATUSES,
+                Map.of("tbl", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
+    @Override
+    public Long enqueue(Long boardMasterIdx, String table, String alterClauses) {
+        String sql = """
+            INSERT INTO board_schema_change_job (board_master_idx, table_name, alter_sql, status)
+            VALUES (:masterIdx, :tbl, :alterSql, 'PENDING')
+        """;
+        KeyHolder kh = new GeneratedKeyHolder();
+        jdbc.update(sql, new MapSqlParameterSource()
+                .addValue("masterIdx", boardMasterIdx)
+                .addValue("tbl", table)
+                .addValue("alterSql", alterClauses), kh);
+        Number n = kh.getKey();
+        return (n != null) ? n.longValue() : null;
+    }
+
+    @Override
+    public BoardSchemaChangeJobResponse claimNext(String owner, int leaseSeconds) {
+        // 임대(lease_until)가 만료된 작업은 중단된 노드의 작업으로 보고 이어받는다.
+        int claimed = jdbc.update("""
+            UPDATE board_schema_change_job
+               SET owner = :owner,
+                   lease_until = DATE_ADD(NOW(), INTERVAL :lease SECOND)
+             WHERE status IN %s
+               AND (lease_until IS NULL OR lease_until < NOW())
+             ORDER BY idx
+             LIMIT 1
+        """.formatted(ACTIVE_STATUSES), Map.of("owner", owner, "lease", leaseSeconds));
+        if (claimed == 0) return null;
+
+        List<BoardSchemaChangeJobResponse> jobs = jdbc.query(
+                SELECT_JOB + " WHERE owner = :owner AND status IN " + ACTIVE_STATUSES + " ORDER BY idx LIMIT 1",
+                Map.of("owner", owner), JOB_MAPPER);
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+    @Override
+    public void release(Long jobIdx, String owner) {
+        jdbc.update("""
+            UPDATE board_schema_change_job
+               SET owner = NULL, lease_until = NULL
+             WHERE idx = :idx AND owner = :owner
+        """, Map.of("idx", jobIdx, "owner", owner));
+    }
+
+    @Override
+    public BoardSchemaChangeJobResponse findByIdx(Long jobIdx) {
+        List<BoardSchemaChangeJobResponse> jobs = jdbc.query(SELECT_JOB + " WHERE idx = :idx",
+                Map.of("idx", jobIdx), JOB_MAPPER);
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+    @Override
+    public List<BoardSchemaChangeJobResponse> findByBoardMasterIdx(Long boardMasterIdx) {
+        return jdbc.query(SELECT_JOB + " WHERE board_master_idx = :masterIdx ORDER BY idx DESC",
+                Map.of("masterIdx", boardMasterIdx), JOB_MAPPER);
+    }
+
+    // ==================== 단계 실행 ====================
+
+    @Override
+    public void prepare(BoardSchemaChangeJobResponse job) throws Exception {
+        String table = job.getTableName();
+        String shadow = shadowTable(table);
+
+        if (!tableExists(table)) {
+            throw new EgovBizException("[스키마 변경] 원본 테이블이 없습니다: " + table);
+        }
+
+        // 중단된 준비 단계는 처음부터 다시 수행
+        dropTriggers(table);
+        execute("DROP TABLE IF EXISTS " + shadow);
+
+        execute("CREATE TABLE " + shadow + " LIKE " + table);
+        execute("ALTER TABLE " + shadow + "\n  " + job.getAlterSql());
+
+        // 트리거 생성 이후의 변경은 트리거가 섀도 테이블에 반영한다.
+        List<String> cols = commonColumns(table, shadow);
+        String colList = String.join(", ", cols);
+        String newValues = cols.stream().map(c -> "NEW." + c).collect(Collectors.joining(", "));
+
+        execute("CREATE TRIGGER " + triggerName(table, "ins") + " AFTER INSERT ON " + table +
+                " FOR EACH ROW REPLACE INTO " + shadow + " (" + colList + ") VALUES (" + newValues + ")");
+        execute("CREATE TRIGGER " + triggerName(table, "upd") + " AFTER UPDATE ON " + table +
+                " FOR EACH ROW REPLACE INTO " + shadow + " (" + colList + ") VALUES (" + newValues + ")");
+        execute("CREATE TRIGGER " + triggerName(table, "del") + " AFTER DELETE ON " + table +
+                " FOR EACH ROW DELETE FROM " + shadow + " WHERE idx = OLD.idx");
+
+        // 트리거 생성 시점까지 존재하던 행만 청크 복사 대상
+        Long maxIdx = jdbc.queryForObject("SELECT COALESCE(MAX(idx), 0) FROM " + table, Map.of(), Long.class);
+
+        jdbc.update("""
+            UPDATE board_schema_change_job
+               SET status = 'COPYING', max_idx = :maxIdx, last_copied_idx = 0, copied_rows = 0,
+                   updated_date = NOW()
+             WHERE idx = :idx
+        """, Map.of("idx", job.getIdx(), "maxIdx", maxIdx != null ? maxIdx : 0L));
+    }
+
+    @Override
+    public long copyChunk(BoardSchemaChangeJobResponse job, long chunkSize) {
+        String table = job.getTableName();
+        String shadow = shadowTable(table);
+
+        long from = job.getLastCopiedIdx();
+        long to = Math.min(from + chunkSize, job.getMaxIdx());
+
+        long copied = 0;
+        if (to > from) {
+            // 트리거가 먼저 반영한 행(더 최신)은 INSERT IGNORE로 건너뛴다.
+            String colList = String.join(", ", commonColumns(table, shadow));
+            copied = jdbc.update(
+                    "INSERT IGNORE INTO " + shadow + " (" + colList + ") " +
+                    "SELECT " + colList + " FROM " + table + " WHERE idx > :from AND idx <= :to",
+                    Map.of("from", from, "to", to));
+        }
+
+        jdbc.update("""
+            UPDATE board_schema_change_job
+               SET last_copied_idx = :to,
+                   copied_rows = copied_rows + :copied,
+                   status = CASE WHEN :to >= max_idx THEN 'CUTOVER' ELSE status END,
+                   updated_date = NOW()
+             WHERE idx = :idx
+        """, Map.of("idx", job.getIdx(), "to", Math.max(to, from), "copied", copied));
+        return copied;
+    }
+
+    @Override
+    public void cutover(BoardSchemaChangeJobResponse job) {
+        String table = job.getTableName();
+        String shadow = shadowTable(table);
+        String old = oldTable(table);
+
+        // RENAME 이후 중단된 경우(섀도 테이블 없음)에는 정리만 이어서 수행
+        if (tableExists(shadow)) {
+            execute("DROP TABLE IF EXISTS " + old);
+            execute("RENAME TABLE " + table + " TO " + old + ", " + shadow + " TO " + table);
+        }
+        dropTriggers(table);
+        execute("DROP TABLE IF EXISTS " + old);
+
+        jdbc.update("""
+            UPDATE board_schema_change_job
+               SET status = 'DONE', finished_date = NOW(), updated_date = NOW()
+             WHERE idx = :idx
+        """, Map.of("idx", job.getIdx()));
+    }
+
+    @Override
+    public void fail(Long jobIdx, String message) {
+        BoardSchemaChangeJobResponse job = findByIdx(jobIdx);
+        if (job == null) return;
+
+        // 원본 테이블은 건드리지 않았으므로 보조 객체만 제거
+        dropTriggers(job.getTableName());
+        execute("DROP TABLE IF EXISTS " + shadowTable(job.getTableName()));
+
+        String msg = message == null ? null
+                : message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        jdbc.update("""
+            UPDATE board_schema_change_job
+               SET status = 'FAILED', error_message = :msg, finished_date = NOW(), updated_date = NOW()
+             WHERE idx = :idx
+        """, new MapSqlParameterSource().addValue("idx", jobIdx).addValue("msg", msg));
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private String shadowTable(String table) {
+        return "_" + table + "_new";
+    }
+
+    private String oldTable(String table) {
+        return "_" + table + "_old";
+    }
+
+    private String triggerName(String table, String event) {
+        return table + "_osc_" + event;
+    }
+
+    private void dropTriggers(String table) {
+        for (String event : List.of("ins", "upd", "del")) {
+            execute("DROP TRIGGER IF EXISTS " + triggerName(table, event));
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Integer cnt = jdbc.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl
+        """, Map.of("tbl", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
+    /** 원본/섀도 양쪽에 있는 컬럼 (원본 순서) - 추가된 컬럼은 기본값, 삭제된 컬럼은 제외 */
+    private List<String> commonColumns(String table, String shadow) {
+        String sql = """
+            SELECT COLUMN_NAME FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tbl
+            ORDER BY ORDINAL_POSITION
+        """;
+        List<String> cols = new ArrayList<>(jdbc.queryForList(sql, Map.of("tbl", table), String.class));
+        Set<String> shadowCols = new HashSet<>(jdbc.queryForList(sql, Map.of("tbl", shadow), String.class));
+        cols.retainAll(shadowCols);
+        return cols;
+    }
+
+    private void execute(String sql) {
+        jdbc.getJdbcTemplate().execute(sql);
+    }
+}
@@ -1,18 +1,42 @@
 package kr.co.itid.cms.repository.cms.core.board.impl;
 
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
+import kr.co.itid.cms.repository.cms.core.board.BoardRowStreamHandler;
 import kr.co.itid.cms.repository.cms.core.board.DynamicBoardDao;
+import kr.co.itid.cms.repository.cms.core.board.count.BoardCountCache;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchemaRegistry;
+import kr.co.itid.cms.repository.cms.core.board.sqlbuilder.BoardRowMapper;
 import kr.co.itid.cms.repository.cms.core.board.sqlbuilder.DynamicBoardSqlBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,36 +46,15 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final DynamicBoardSqlBuilder dynamicBoardSqlBuilder;
+    private final BoardSchemaRegistry boardSchemaRegistry;
+    private final BoardCountCache boardCountCache;
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     /**
-     * menu_id로 board_id를 조회
+     * menu_id로 게시판 스키마 조회 (레지스트리 캐시)
      */
-    private String resolveBoardIdByMenuId(Long menuId) {
-        String sql = """
-            SELECT bm.board_id
-            FROM cms_menu m
-            JOIN board_master bm ON bm.idx = CAST(m.value AS UNSIGNED)
-            WHERE m.id = :menuId AND m.type = 'board' AND m.is_show = 1
-        """;
-
-        Map<String, Object> params = Map.of("menuId", menuId);
-        return jdbcTemplate.queryForObject(sql, params, String.class);
-    }
-
-    /**
-     * menu_id로 board_master.idx 조회
-     */
-    private Long resolveBoardMasterIdxByMenuId(Long menuId) {
-        String sql = """
-            SELECT bm.idx
-            FROM cms_menu m
-            JOIN board_master bm ON bm.idx = CAST(m.value AS UNSIGNED)
-            WHERE m.id = :menuId AND m.type = 'board' AND m.is_show = 1
-        """;
-
-        Map<String, Object> params = Map.of("menuId", menuId);
-        return jdbcTemplate.queryForObject(sql, params, Long.class);
+    private BoardSchema schemaOf(Long menuId) {
+        return boardSchemaRegistry.get(menuId);
     }
 
     /**
@@ -67,6 +70,8 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
             bfd.field_type AS fieldType,
             bfd.is_required AS required,
             bfd.is_searchable AS searchable,
+            bfd.is_indexed AS indexed,
+            bfd.is_sortable AS sortable,
             bfd.field_order AS fieldOrder,
             bfd.default_value AS defaultValue,
             bfd.placeholder
@@ -87,6 +92,8 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
                         .fieldType(rs.getString("fieldType"))
                         .required(rs.getBoolean("required"))
                         .searchable(rs.getBoolean("searchable"))
+                        .indexed(rs.getBoolean("indexed"))
+                        .sortable(rs.getBoolean("sortable"))
                         .fieldOrder(rs.getInt("fieldOrder"))
                         .defaultValue(rs.getString("defaultValue"))
                         .placeholder(rs.getString("placeholder"))
@@ -96,46 +103,12 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
 
     @Override
     public List<FieldDefinitionResponse> getFieldDefinitionsByMenuId(Long menuId) {
-        Long boardMasterIdx = resolveBoardMasterIdxByMenuId(menuId);
-        String sql = """
-            SELECT
-                id,
-                board_master_idx AS boardMasterIdx,
-                field_name AS fieldName,
-                display_name AS displayName,
-                field_type AS fieldType,
-                is_required AS required,
-                is_searchable AS searchable,
-                field_order AS fieldOrder,
-                default_value AS defaultValue,
-                placeholder
-            FROM board_field_definition
-            WHERE board_master_idx = :boardMasterIdx
-            ORDER BY field_order ASC
-        """;
-
-        Map<String, Object> params = Map.of("boardMasterIdx", boardMasterIdx);
-
-        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
-                FieldDefinitionResponse.builder()
-                        .id(rs.getLong("id"))
-                        .boardMasterIdx(rs.getLong("boardMasterIdx"))
-                        .fieldName(rs.getString("fieldName"))
-                        .displayName(rs.getString("displayName"))
-                        .fieldType(rs.getString("fieldType"))
-                        .required(rs.getBoolean("required"))
-                        .searchable(rs.getBoolean("searchable"))
-                        .fieldOrder(rs.getInt("fieldOrder"))
-                        .defaultValue(rs.getString("defaultValue"))
-                        .placeholder(rs.getString("placeholder"))
-                        .build()
-        );
+        return schemaOf(menuId).getFields();
     }
 
     @Override
     public void insertByMenuId(Long menuId, Map<String, Object> data) {
-        String boardId = resolveBoardIdByMenuId(menuId);
-        List<FieldDefinitionResponse> fields = getFieldDefinitionsByMenuId(menuId);
+        BoardSchema schema = schemaOf(menuId);
 
         // KST 기준 현재 시각
         LocalDateTime now = LocalDateTime.now(KST);
@@ -143,36 +116,92 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
         data.putIfAbsent("created_date", Timestamp.valueOf(now));
         data.put("updated_date", Timestamp.valueOf(now));
 
-        String sql = dynamicBoardSqlBuilder.buildInsertQuery(boardId, fields, data);
+        String sql = dynamicBoardSqlBuilder.buildInsertQuery(schema, data);
         jdbcTemplate.update(sql, data); // NamedParameterJdbcTemplate 가정
+
+        // 전체 건수 카운터 +1 (커밋 후)
+        boardCountCache.increment(schema.getBoardId());
+    }
+
+    /**
+     * 일괄 등록 (가져오기)
+     * 같은 컬럼 조합끼리 묶어 조합당 한 번의 batchUpdate
+     * (rewriteBatchedStatements=true 이면 드라이버가 다중 VALUES INSERT로 재작성)
+     * @return 등록 건수
+     */
+    @Override
+    public int batchInsertByMenuId(Long menuId, List<Map<String, Object>> rows) {
+        BoardSchema schema = schemaOf(menuId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(KST));
+
+        Map<String, List<Map<String, Object>>> bySql = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            row.putIfAbsent("created_date", now);
+            row.put("updated_date", now);
+            bySql.computeIfAbsent(dynamicBoardSqlBuilder.buildInsertQuery(schema, row), k -> new ArrayList<>()).add(row);
+        }
+
+        int inserted = 0;
+        for (Map.Entry<String, List<Map<String, Object>>> group : bySql.entrySet()) {
+            int[] counts = jdbcTemplate.batchUpdate(group.getKey(), SqlParameterSourceUtils.createBatch(group.getValue()));
+            for (int c : counts) {
+                // 재작성된 배치는 행별 건수 대신 SUCCESS_NO_INFO 반환
+                inserted += c == Statement.SUCCESS_NO_INFO ? 1 : c;
+            }
+        }
+
+        boardCountCache.increment(schema.getBoardId(), inserted);
+        return inserted;
     }
 
     @Override
     public void updateByMenuId(Long menuId, Long idx, Map<String, Object> data) {
-        String boardId = resolveBoardIdByMenuId(menuId);
-        List<FieldDefinitionResponse> fields = getFieldDefinitionsByMenuId(menuId);
+        BoardSchema schema = schemaOf(menuId);
 
         data.put("idx", idx);
         data.put("updated_date", Timestamp.valueOf(LocalDateTime.now(KST)));
 
-        String sql = dynamicBoardSqlBuilder.buildUpdateQuery(boardId, fields, data);
+        String sql = dynamicBoardSqlBuilder.buildUpdateQuery(schema, data);
         jdbcTemplate.update(sql, data);
     }
 
+    /**
+     * 작성자 조건부 수정 (소유자 확인 + 수정을 한 문장으로)
+     * @return 영향 행 수 (0이면 미존재 또는 작성자 불일치)
+     */
+    @Override
+    public int updateOwnedByMenuId(Long menuId, Long idx, String ownerId, Map<String, Object> data) {
+        BoardSchema schema = schemaOf(menuId);
+
+        data.put("idx", idx);
+        data.put("owner_id", ownerId);
+        data.put("updated_date", Timestamp.valueOf(LocalDateTime.now(KST)));
+
+        String sql = dynamicBoardSqlBuilder.buildOwnedUpdateQuery(schema, data);
+        return jdbcTemplate.update(sql, data);
+    }
+
     @Override
     public Map<String, Object> selectOneByMenuId(Long menuId, Long idx) {
-        String boardId = resolveBoardIdByMenuId(menuId);
-        List<FieldDefinitionResponse> fields = getFieldDefinitionsByMenuId(menuId);
+        BoardSchema schema = schemaOf(menuId);
 
-        String sql = dynamicBoardSqlBuilder.buildSelectOneQuery(boardId, fields);
+        String sql = dynamicBoardSqlBuilder.buildSelectOneQuery(schema);
         Map<String, Object> params = Map.of("idx", idx);
-        return jdbcTemplate.queryForMap(sql, params);
+        if (!schema.hasArchive()) {
+            return jdbcTemplate.queryForObject(sql, params, new BoardRowMapper(schema));
+        }
+
+        // 본 테이블에 없으면 보관 테이블에서 조회 (둘 다 없으면 기존과 같이 EmptyResultDataAccessException)
+        List<Map<String, Object>> rows = jdbcTemplate.query(sql, params, new BoardRowMapper(schema));
+        if (!rows.isEmpty()) return rows.get(0);
+        return jdbcTemplate.queryForObject(
+                dynamicBoardSqlBuilder.buildArchiveSelectOneQuery(schema), params, new BoardRowMapper(schema));
     }
 
     @Override
     public String selectRegIdByMenuId(Long menuId, Long idx) throws Exception {
         // 1) 보드 식별 및 검증
-        String boardId = resolveBoardIdByMenuId(menuId);
+        String boardId = schemaOf(menuId).getBoardId();
         validateBoardId(boardId);
 
         // 2) 쿼리
@@ -185,28 +214,138 @@ public class DynamicBoardDaoImpl implements DynamicBoardDao {
     }
 
     @Override
-    public void increaseViewCountByMenuId(Long menuId, Long idx) {
-        String boardId = resolveBoardIdByMenuId(menuId);
-        String sql = String.format("UPDATE board_%s SET view_count = view_count + 1 WHERE idx = :idx AND is_deleted = false", boardId);
-        Map<String, Object> params = Map.of("idx", idx);
-        jdbcTemplate.update(sql, params);
+    public String getBoardIdByMenuId(Long menuId) {
+        return schemaOf(menuId).getBoardId();
+    }
+
+    /**
+     * 조회수 증가분 일괄 반영 (write-behind flush)
+     * @param deltas idx → 증가분
+     */
+    @Override
+    public void increaseViewCounts(String boardId, Map<Long, Long> deltas) {
+        validateBoardId(boardId);
+        String sql = "UPDATE board_" + boardId + " SET view_count = view_count + ? WHERE idx = ? AND is_deleted = false";
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((idx, delta) -> batch.add(new Object[]{delta, idx}));
+        jdbcTemplate.getJdbcTemplate().batchUpdate(sql, batch);
     }
 
     @Override
     public void deleteByMenuId(Long menuId, Long idx) {
-        String boardId = resolveBoardIdByMenuId(menuId);
+        String boardId = schemaOf(menuId).getBoardId();
         String sql = dynamicBoardSqlBuilder.buildDeleteQuery(boardId);
 
         Map<String, Object> params = Map.of("idx", idx);
-        jdbcTemplate.update(sql, params);
+        if (jdbcTemplate.update(sql, params) > 0) {
+            // 실제로 삭제 상태로 바뀐 경우에만 전체 건수 카운터 -1 (커밋 후)
+            boardCountCache.decrement(boardId);
+        }
+    }
+
+    /**
+     * 작성자 조건부 삭제(soft delete)
+     * @return 영향 행 수 (0이면 미존재 또는 작성자 불일치)
+     */
+    @Override
+    public int deleteOwnedByMenuId(Long menuId, Long idx, String ownerId) {
+        String boardId = schemaOf(menuId).getBoardId();
+        String sql = dynamicBoardSqlBuilder.buildOwnedDeleteQuery(boardId);
+
+        // ownerId가 null이면 어떤 행과도 일치하지 않음
+        Map<String, Object> params = new HashMap<>();
+        params.put("idx", idx);
+        params.put("owner_id", ownerId);
+        int affected = jdbcTemplate.update(sql, params);
+        if (affected > 0) {
+            boardCountCache.decrement(boardId);
+        }
+        return affected;
+    }
+
+    /**
+     * 삭제되지 않은 게시글 존재 여부 (조건부 쓰기 실패 시 403/404 구분용)
+     */
+    @Override
+    public boolean existsByMenuId(Long menuId, Long idx) {
+        String boardId = schemaOf(menuId).getBoardId();
+        String sql = dynamicBoardSqlBuilder.buildExistsQuery(boardId);
+
+        Integer count = jdbcTemplate.queryForObject(sql, Map.of("idx", idx), Integer.class);
+        return count != null && count > 0;
     }
 
     @Override
     public Page<Map<String, Object>> selectListByMenuId(Long menuId, SearchOption option, PaginationOption pagination) {
-        String boardId = resolveBoardIdByMenuId(menuId);
-        List<FieldDefinitionResponse> fields = getFieldDefinitionsByMenuId(menuId);
+        BoardSchema schema = schemaOf(menuId);
+
+        return dynamicBoardSqlBuilder.buildPaginatedListQuery(jdbcTemplate, schema, option, pagination);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> selectSliceByMenuId(Long menuId, SearchOption option, PaginationOption pagination) {
+        BoardSchema schema = schemaOf(menuId);
 
-        return dynamicBoardSqlBuilder.buildPaginatedListQuery(jdbcTemplate, boardId, fields, option, pagination);
+        return dynamicBoardSqlBuilder.buildSliceListQuery(jdbcTemplate, schema, option, pagination);
+    }
+
+    @Override
+    public CursorSliceResponse<Map<String, Object>> selectCursorListByMenuId(Long menuId, SearchOption option, CursorOption cursor) {
+        BoardSchema schema = schemaOf(menuId);
+
+        return dynamicBoardSqlBuilder.buildCursorListQuery(jdbcTemplate, schema, option, cursor);
+    }
+
+    /**
+     * 게시판 전체 스트리밍 (내보내기)
+     * forward-only + fetchSize=Integer.MIN_VALUE → MySQL 드라이버가 행을 하나씩 읽어 메모리 사용량이 게시판 크기와 무관
+     * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 handler는 출력만 수행해야 한다.
+     * @return 전송한 행 수
+     */
+    @Override
+    public long streamByMenuId(Long menuId, SearchOption option, BoardRowStreamHandler handler) {
+        BoardSchema schema = schemaOf(menuId);
+
+        Map<String, Object> params = new HashMap<>();
+        String sql = dynamicBoardSqlBuilder.buildExportQuery(schema, option, params);
+
+        ParsedSql parsed = NamedParameterUtils.parseSqlStatement(sql);
+        MapSqlParameterSource source = new MapSqlParameterSource(params);
+        String jdbcSql = NamedParameterUtils.substituteNamedParameters(parsed, source);
+        Object[] args = NamedParameterUtils.buildValueArray(parsed, source, null);
+
+        PreparedStatementCreator creator = con -> {
+            PreparedStatement ps = con.prepareStatement(jdbcSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        };
+
+        // SELECT 컬럼 순서: idx, 필드 정의 순
+        List<String> columns = new ArrayList<>(schema.getFieldNames().size() + 1);
+        columns.add("idx");
+        columns.addAll(schema.getFieldNames());
+        Object[] values = new Object[columns.size()];
+        long[] count = {0L};
+
+        try {
+            handler.header(columns);
+            jdbcTemplate.getJdbcTemplate().query(creator, (RowCallbackHandler) rs -> {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = JdbcUtils.getResultSetValue(rs, i + 1);
+                }
+                try {
+                    handler.row(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
     }
 
     /**
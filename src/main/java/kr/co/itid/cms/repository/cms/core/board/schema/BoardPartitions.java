@@ -0,0 +1,64 @@
+package kr.co.itid.cms.repository.cms.core.board.schema;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시판 테이블 월 단위 RANGE COLUMNS(created_date) 파티션 DDL
+ *
+ * - p_old: 생성 시점 이전 데이터 (가장 낮은 파티션이므로 더 오래된 값도 모두 포함)
+ * - pYYYYMM: 해당 월 (VALUES LESS THAN 다음 달 1일)
+ * - p_max: 아직 만들지 않은 미래 월 (MAXVALUE) → 유지보수 작업이 미리 분할
+ *
+ * 파티션 키는 모든 유니크 키에 포함되어야 하므로 PK는 (idx, created_date)이며,
+ * InnoDB 파티션 테이블은 FULLTEXT 인덱스를 지원하지 않는다.
+ */
+public final class BoardPartitions {
+
+    public static final String OLD = "p_old";
+    public static final String MAX = "p_max";
+
+    private BoardPartitions() {}
+
+    public static String name(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /** pYYYYMM → YearMonth (월 파티션이 아니면 null) */
+    public static YearMonth monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.matches("^p\\d{6}$")) return null;
+        return YearMonth.of(Integer.parseInt(partitionName.substring(1, 5)), Integer.parseInt(partitionName.substring(5)));
+    }
+
+    /** 해당 월 파티션의 상한 (다음 달 1일, 미포함) */
+    public static LocalDate upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1);
+    }
+
+    /** CREATE TABLE 뒤에 붙일 파티션 절: p_old + [from, to] 월 + p_max */
+    public static String createClause(YearMonth from, YearMonth to) {
+        List<String> parts = new ArrayList<>();
+        parts.add("PARTITION " + OLD + " VALUES LESS THAN ('" + from.atDay(1) + "')");
+        parts.addAll(monthDefinitions(from, to));
+        parts.add("PARTITION " + MAX + " VALUES LESS THAN (MAXVALUE)");
+        return "PARTITION BY RANGE COLUMNS(created_date) (\n  " + String.join(",\n  ", parts) + "\n)";
+    }
+
+    /** p_max를 [from, to] 월 + p_max로 분할 (p_max가 비어 있으면 메타데이터 수준 작업) */
+    public static String reorganizeMaxClause(String table, YearMonth from, YearMonth to) {
+        List<String> parts = new ArrayList<>(monthDefinitions(from, to));
+        parts.add("PARTITION " + MAX + " VALUES LESS THAN (MAXVALUE)");
+        return "ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX + " INTO (\n  "
+                + String.join(",\n  ", parts) + "\n)";
+    }
+
+    private static List<String> monthDefinitions(YearMonth from, YearMonth to) {
+        List<String> parts = new ArrayList<>();
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            parts.add("PARTITION " + name(m) + " VALUES LESS THAN ('" + upperBound(m) + "')");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,161 @@
+package kr.co.itid.cms.repository.cms.core.board.schema;
+
+import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.util.MapKeyConverterUtil;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메뉴에 연결된 동적 게시판의 불변 스키마
+ *
+ * - boardId: 물리 테이블 board_{boardId}
+ * - masterIdx: board_master.idx
+ * - fields: field_order 순 필드 정의
+ * - searchableFields / sortableFields: 검색/정렬 허용 컬럼 (화이트리스트)
+ * - indexedFields: (is_deleted, field, idx) 보조 인덱스가 있는 컬럼 (TEXT 계열 제외)
+ * - camelNames: 컬럼명 → 응답 키(camelCase) 변환 결과 (행 매핑 시 재계산 방지)
+ * - fulltextFields: FULLTEXT(ngram) 인덱스 ftx_board_{boardId}의 컬럼 (인덱스 순서, 없으면 빈 집합)
+ * - archiveWatermark: 이 시각 이전 글은 보관 테이블 board_{boardId}__archive에 있을 수 있음 (null: 보관 없음)
+ * - version: 스키마 적재 시마다 증가 (SQL 템플릿 캐시 키 등에 사용)
+ */
+public final class BoardSchema {
+
+    /** 모든 게시판 테이블에 공통으로 존재하는 컬럼 */
+    private static final List<String> SYSTEM_COLUMNS = List.of(
+            "idx", "title", "content", "is_deleted", "view_count",
+            "reg_id", "reg_name", "created_date", "updated_date");
+
+    private final String boardId;
+    private final Long masterIdx;
+    private final List<FieldDefinitionResponse> fields;
+    private final Set<String> fieldNames;
+    private final Set<String> searchableFields;
+    private final Set<String> sortableFields;
+    private final Set<String> indexedFields;
+    private final List<String> fulltextFields;
+    private final LocalDateTime archiveWatermark;
+    private final Map<String, String> camelNames;
+    private final long version;
+
+    public BoardSchema(String boardId, Long masterIdx, List<FieldDefinitionResponse> fields,
+                       List<String> fulltextFields, LocalDateTime archiveWatermark, long version) {
+        this.boardId = boardId;
+        this.masterIdx = masterIdx;
+        this.fields = List.copyOf(fields);
+        this.fulltextFields = List.copyOf(fulltextFields);
+        this.archiveWatermark = archiveWatermark;
+        this.version = version;
+
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> searchable = new LinkedHashSet<>();
+        Set<String> sortable = new LinkedHashSet<>();
+        Set<String> indexed = new LinkedHashSet<>();
+        for (FieldDefinitionResponse f : this.fields) {
+            names.add(f.getFieldName());
+            if (f.isSearchable()) searchable.add(f.getFieldName());
+            if (f.isSortable()) sortable.add(f.getFieldName());
+            if (f.isIndexed() && !isTextOrBlob(f.getFieldType())) indexed.add(f.getFieldName());
+        }
+        this.fieldNames = Collections.unmodifiableSet(names);
+        this.searchableFields = Collections.unmodifiableSet(searchable);
+        this.sortableFields = Collections.unmodifiableSet(sortable);
+        this.indexedFields = Collections.unmodifiableSet(indexed);
+
+        Map<String, String> camel = new HashMap<>();
+        for (String column : SYSTEM_COLUMNS) {
+            camel.put(column, MapKeyConverterUtil.toCamelCase(column));
+        }
+        for (String name : names) {
+            camel.put(name, MapKeyConverterUtil.toCamelCase(name));
+        }
+        this.camelNames = Collections.unmodifiableMap(camel);
+    }
+
+    public String getBoardId() {
+        return boardId;
+    }
+
+    public Long getMasterIdx() {
+        return masterIdx;
+    }
+
+    public List<FieldDefinitionResponse> getFields() {
+        return fields;
+    }
+
+    public Set<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    public Set<String> getSearchableFields() {
+        return searchableFields;
+    }
+
+    public Set<String> getSortableFields() {
+        return sortableFields;
+    }
+
+    public Set<String> getIndexedFields() {
+        return indexedFields;
+    }
+
+    public List<String> getFulltextFields() {
+        return fulltextFields;
+    }
+
+    /**
+     * 컬럼명 → 응답 키(camelCase)
+     */
+    public String camelName(String column) {
+        String name = camelNames.get(column);
+        return name != null ? name : MapKeyConverterUtil.toCamelCase(column);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getTableName() {
+        return "board_" + boardId;
+    }
+
+    public LocalDateTime getArchiveWatermark() {
+        return archiveWatermark;
+    }
+
+    public boolean hasArchive() {
+        return archiveWatermark != null;
+    }
+
+    public String getArchiveTableName() {
+        return archiveTableName(getTableName());
+    }
+
+    /**
+     * 게시판 테이블의 보관 테이블명
+     */
+    public static String archiveTableName(String table) {
+        return table + "__archive";
+    }
+
+    /** TEXT/BLOB 컬럼은 접두 길이 없이 인덱스 불가 (BoardMasterDaoImpl 인덱스 동기화와 동일 기준) */
+    private static boolean isTextOrBlob(String fieldType) {
+        if (fieldType == null) return false;
+        String up = fieldType.toUpperCase(Locale.ROOT);
+        return up.contains("TEXT") || up.contains("BLOB");
+    }
+
+    /**
+     * 게시판 테이블의 FULLTEXT 인덱스명
+     */
+    public static String fulltextIndexName(String table) {
+        return "ftx_" + table;
+    }
+}
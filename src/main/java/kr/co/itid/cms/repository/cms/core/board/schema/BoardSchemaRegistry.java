@@ -0,0 +1,210 @@
+package kr.co.itid.cms.repository.cms.core.board.schema;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static kr.co.itid.cms.constanrt.RedisConstants.BOARD_SCHEMA_EVICT_CHANNEL;
+
+/**
+ * menuId → BoardSchema 레지스트리
+ *
+ * 동적 게시판 요청마다 반복되던 메타데이터 조회(menu → board_master JOIN, 필드 정의)를
+ * 메뉴당 한 번으로 줄인다. 게시판/필드/메뉴 변경 시 evictAll()로 무효화하며,
+ * Pub/Sub으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSchemaRegistry {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicLong versionSeq = new AtomicLong();
+
+    // 무효화 세대 (적재 중 무효화 감지)
+    private final AtomicLong evictSeq = new AtomicLong();
+
+    private Cache<Long, BoardSchema> schemas;
+
+    @PostConstruct
+    void init() {
+        this.schemas = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(TTL)
+                .build();
+
+        listenerContainer.addMessageListener(this::onEvict, new ChannelTopic(BOARD_SCHEMA_EVICT_CHANNEL));
+    }
+
+    /**
+     * 메뉴에 연결된 게시판 스키마 조회 (없으면 DB에서 적재)
+     * 게시판 메뉴가 아니면 EmptyResultDataAccessException
+     */
+    public BoardSchema get(Long menuId) {
+        // 적재 중 무효화(컬럼 DROP, 섀도 테이블 교체 등)되면 이전 스키마가 TTL 동안 남지 않도록 되돌림
+        final long mark = evictSeq.get();
+        BoardSchema schema = schemas.get(menuId, this::load);
+        if (evictSeq.get() != mark) {
+            schemas.asMap().remove(menuId, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * 전체 무효화 (현재 노드 + 다른 노드)
+     * 트랜잭션 안에서 호출되면 커밋 후 실행 → 커밋 전 동시 조회가 옛 매핑을 다시 적재해 TTL 동안 남는 것을 방지
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow();
+                }
+            });
+        } else {
+            evictNow();
+        }
+    }
+
+    private void evictNow() {
+        evictLocal();
+        try {
+            stringRedisTemplate.convertAndSend(BOARD_SCHEMA_EVICT_CHANNEL, "*");
+        } catch (Exception e) {
+            // 다른 노드는 TTL로 정리됨
+            log.warn("[Board Schema] 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onEvict(Message message, byte[] pattern) {
+        evictLocal();
+    }
+
+    /** 세대를 먼저 올린 뒤 비움 (Caffeine invalidateAll은 진행 중인 적재를 취소하지 않음) */
+    private void evictLocal() {
+        evictSeq.incrementAndGet();
+        schemas.invalidateAll();
+    }
+
+    private BoardSchema load(Long menuId) {
+        String sql = """
+            SELECT bm.board_id, bm.idx, bm.archive_watermark
+            FROM cms_menu m
+            JOIN board_master bm ON bm.idx = CAST(m.value AS UNSIGNED)
+            WHERE m.id = :menuId AND m.type = 'board' AND m.is_show = 1
+        """;
+
+        Map<String, Object> board = jdbcTemplate.queryForMap(sql, Map.of("menuId", menuId));
+        String boardId = (String) board.get("board_id");
+        Long masterIdx = ((Number) board.get("idx")).longValue();
+        LocalDateTime archiveWatermark = toLocalDateTime(board.get("archive_watermark"));
+
+        String table = "board_" + boardId;
+        List<String> fulltextFields = loadFulltextColumns(table);
+
+        // 정의만 있고 아직 물리 컬럼이 없는 필드(스키마 변경 작업 진행 중)는 제외
+        Set<String> columns = new HashSet<>(loadColumns(table));
+        List<FieldDefinitionResponse> fields = loadFields(masterIdx).stream()
+                .filter(f -> columns.contains(f.getFieldName()))
+                .collect(Collectors.toList());
+        return new BoardSchema(boardId, masterIdx, fields, fulltextFields, archiveWatermark, versionSeq.incrementAndGet());
+    }
+
+    /** 드라이버에 따라 DATETIME이 Timestamp 또는 LocalDateTime으로 반환됨 */
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime ldt) return ldt;
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        return null;
+    }
+
+    private List<String> loadColumns(String table) {
+        String sql = """
+            SELECT COLUMN_NAME
+            FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+        """;
+        return jdbcTemplate.queryForList(sql, Map.of("tbl", table), String.class);
+    }
+
+    /**
+     * 실제 존재하는 FULLTEXT 인덱스 컬럼 (정의가 아닌 물리 인덱스 기준)
+     */
+    private List<String> loadFulltextColumns(String table) {
+        String sql = """
+            SELECT COLUMN_NAME
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = :tbl
+              AND INDEX_NAME = :idx
+            ORDER BY SEQ_IN_INDEX
+        """;
+        return jdbcTemplate.queryForList(sql,
+                Map.of("tbl", table, "idx", BoardSchema.fulltextIndexName(table)), String.class);
+    }
+
+    private List<FieldDefinitionResponse> loadFields(Long boardMasterIdx) {
+        String sql = """
+            SELECT
+                id,
+                board_master_idx AS boardMasterIdx,
+                field_name AS fieldName,
+                display_name AS displayName,
+                field_type AS fieldType,
+                is_required AS required,
+                is_searchable AS searchable,
+                is_indexed AS indexed,
+                is_sortable AS sortable,
+                field_order AS fieldOrder,
+                default_value AS defaultValue,
+                placeholder
+            FROM board_field_definition
+            WHERE board_master_idx = :boardMasterIdx
+            ORDER BY field_order ASC
+        """;
+
+        return jdbcTemplate.query(sql, Map.of("boardMasterIdx", boardMasterIdx), (rs, rowNum) ->
+                FieldDefinitionResponse.builder()
+                        .id(rs.getLong("id"))
+                        .boardMasterIdx(rs.getLong("boardMasterIdx"))
+                        .fieldName(rs.getString("fieldName"))
+                        .displayName(rs.getString("displayName"))
+                        .fieldType(rs.getString("fieldType"))
+                        .required(rs.getBoolean("required"))
+                        .searchable(rs.getBoolean("searchable"))
+                        .indexed(rs.getBoolean("indexed"))
+                        .sortable(rs.getBoolean("sortable"))
+                        .fieldOrder(rs.getInt("fieldOrder"))
+                        .defaultValue(rs.getString("defaultValue"))
+                        .placeholder(rs.getString("placeholder"))
+                        .build()
+        );
+    }
+}
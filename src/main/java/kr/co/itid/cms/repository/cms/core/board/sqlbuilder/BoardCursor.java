@@ -0,0 +1,34 @@
+package kr.co.itid.cms.repository.cms.core.board.sqlbuilder;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (정렬 키 created_date + 동률 처리용 idx)
+ * 외부에는 Base64url 문자열로만 노출한다.
+ */
+public record BoardCursor(long createdMillis, long idx) {
+
+    public String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(Long.BYTES * 2);
+        buf.putLong(createdMillis).putLong(idx);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static BoardCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (bytes.length != Long.BYTES * 2) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        return new BoardCursor(buf.getLong(), buf.getLong());
+    }
+}
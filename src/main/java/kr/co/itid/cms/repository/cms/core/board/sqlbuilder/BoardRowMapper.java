@@ -0,0 +1,54 @@
+package kr.co.itid.cms.repository.cms.core.board.sqlbuilder;
+
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 동적 게시판 행 → camelCase 키 Map
+ *
+ * queryForList(LinkedCaseInsensitiveMap) + MapKeyConverterUtil 복사 대신
+ * 첫 행에서 컬럼 라벨을 한 번만 camelCase로 변환해 두고, 이후 행은 크기를 맞춘 Map에 바로 채운다.
+ * 변환 결과는 스키마에 미리 계산된 이름을 우선 사용한다.
+ * 결과셋 단위 상태를 가지므로 쿼리마다 새로 생성한다.
+ */
+public class BoardRowMapper implements RowMapper<Map<String, Object>> {
+
+    private final BoardSchema schema;
+
+    private String[] keys;
+    private int capacity;
+
+    public BoardRowMapper(BoardSchema schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (keys == null) {
+            resolveKeys(rs.getMetaData());
+        }
+        Map<String, Object> row = new LinkedHashMap<>(capacity);
+        for (int i = 0; i < keys.length; i++) {
+            row.put(keys[i], JdbcUtils.getResultSetValue(rs, i + 1));
+        }
+        return row;
+    }
+
+    private void resolveKeys(ResultSetMetaData meta) throws SQLException {
+        int count = meta.getColumnCount();
+        String[] resolved = new String[count];
+        for (int i = 0; i < count; i++) {
+            resolved[i] = schema.camelName(JdbcUtils.lookupColumnName(meta, i + 1));
+        }
+        this.keys = resolved;
+        // 재해시 없이 담을 수 있는 초기 용량
+        this.capacity = (int) (count / 0.75f) + 1;
+    }
+}
@@ -1,20 +1,83 @@
 package kr.co.itid.cms.repository.cms.core.board.sqlbuilder;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
+import kr.co.itid.cms.repository.cms.core.board.count.BoardCountCache;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 동적 게시판 SQL 생성기
+ *
+ * 생성된 SQL 문자열은 (boardId, 스키마 버전, 문장 종류, 컬럼 조합/정렬/필터 형태) 단위로 캐시한다.
+ * 스키마가 바뀌면 BoardSchemaRegistry가 새 버전을 발급하므로 이전 템플릿은 더 이상 조회되지 않고 크기 제한으로 정리된다.
+ * 목록 건수는 BoardCountCache(전체 건수 카운터 / 조건별 단기 캐시)를 거친다.
+ * 날짜 조건이 보관 기준 시각(archiveWatermark) 이전까지 닿으면 보관 테이블을 UNION ALL로 함께 조회한다.
+ */
 @Component
+@RequiredArgsConstructor
 public class DynamicBoardSqlBuilder {
 
+    private static final int MAX_TEMPLATES = 5000;
+
+    // 날짜 필터 형태
+    private static final int DATE_NONE = 0;
+    private static final int DATE_BETWEEN = 1;
+    private static final int DATE_FROM = 2;
+    private static final int DATE_TO = 3;
+
+    // FULLTEXT 검색 시 관련도 정렬 (정렬 필드 대신 사용하는 표식)
+    private static final String RELEVANCE = "_relevance";
+
+    // ngram_token_size 기본값
+    private static final int MIN_FULLTEXT_TOKEN = 2;
+
+    // 키워드 검색을 허용하는 시스템 텍스트 컬럼 (필드 정의로는 만들 수 없는 예약 컬럼)
+    private static final Set<String> SEARCHABLE_SYSTEM_COLUMNS = Set.of("title", "content", "reg_name");
+
+    // 커서 계산용 created_date 별칭 (응답 행에서는 제거)
+    private static final String CURSOR_CREATED_ALIAS = "cursor_created_date";
+    private static final String CURSOR_CREATED_KEY = "cursorCreatedDate";
+
+    // 보관 테이블 UNION 시 바깥 정렬용 created_date 별칭 (바깥 SELECT에는 포함하지 않음)
+    private static final String UNION_CREATED_ALIAS = "union_created_date";
+
+    private final Cache<TemplateKey, Object> templates = Caffeine.newBuilder()
+            .maximumSize(MAX_TEMPLATES)
+            .build();
+
+    private final BoardCountCache boardCountCache;
+
+    // 이 건수를 넘는 게시판은 인덱스(is_indexed) 필드로만 정렬 허용
+    @Value("${board.list.unindexed-sort-max-rows:50000}")
+    private long unindexedSortMaxRows;
+
     // INSERT
+    public String buildInsertQuery(BoardSchema schema, Map<String, Object> data) {
+        Object subset = columnSubset(schema.getFields(), data);
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "insert", subset),
+                k -> buildInsertQuery(schema.getBoardId(), schema.getFields(), data));
+    }
+
     public String buildInsertQuery(String boardId, List<FieldDefinitionResponse> fields, Map<String, Object> data) {
         List<String> columns = new ArrayList<>();
         List<String> params = new ArrayList<>();
@@ -34,6 +97,12 @@ public class DynamicBoardSqlBuilder {
     }
 
     // UPDATE
+    public String buildUpdateQuery(BoardSchema schema, Map<String, Object> data) {
+        Object subset = columnSubset(schema.getFields(), data);
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "update", subset),
+                k -> buildUpdateQuery(schema.getBoardId(), schema.getFields(), data));
+    }
+
     public String buildUpdateQuery(String boardId, List<FieldDefinitionResponse> fields, Map<String, Object> data) {
         List<String> sets = new ArrayList<>();
 
@@ -47,7 +116,20 @@ public class DynamicBoardSqlBuilder {
         return String.format("UPDATE board_%s SET %s WHERE idx = :idx", boardId, String.join(", ", sets));
     }
 
+    // UPDATE (작성자 조건부)
+    public String buildOwnedUpdateQuery(BoardSchema schema, Map<String, Object> data) {
+        Object subset = columnSubset(schema.getFields(), data);
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "updateOwned", subset),
+                k -> buildUpdateQuery(schema.getBoardId(), schema.getFields(), data)
+                        + " AND reg_id = :owner_id AND is_deleted = false");
+    }
+
     // SELECT ONE
+    public String buildSelectOneQuery(BoardSchema schema) {
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "selectOne", null),
+                k -> buildSelectOneQuery(schema.getBoardId(), schema.getFields()));
+    }
+
     public String buildSelectOneQuery(String boardId, List<FieldDefinitionResponse> fields) {
         String selectFields = fields.stream()
                 .map(FieldDefinitionResponse::getFieldName)
@@ -56,64 +138,99 @@ public class DynamicBoardSqlBuilder {
         return String.format("SELECT idx, %s FROM board_%s WHERE idx = :idx", selectFields, boardId);
     }
 
+    // SELECT ONE (보관 테이블)
+    public String buildArchiveSelectOneQuery(BoardSchema schema) {
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "selectOneArchive", null),
+                k -> String.format("SELECT idx, %s FROM %s WHERE idx = :idx",
+                        String.join(", ", schema.getFieldNames()), schema.getArchiveTableName()));
+    }
+
     // DELETE
     public String buildDeleteQuery(String boardId) {
-        return String.format(
-                "UPDATE board_%s SET is_deleted = true WHERE idx = :idx",
-                boardId
-        );
+        return (String) templates.get(new TemplateKey(boardId, 0L, "delete", null),
+                k -> String.format(
+                        "UPDATE board_%s SET is_deleted = true WHERE idx = :idx AND is_deleted = false",
+                        boardId
+                ));
+    }
+
+    // DELETE (작성자 조건부)
+    public String buildOwnedDeleteQuery(String boardId) {
+        return (String) templates.get(new TemplateKey(boardId, 0L, "deleteOwned", null),
+                k -> buildDeleteQuery(boardId) + " AND reg_id = :owner_id");
+    }
+
+    // EXISTS
+    public String buildExistsQuery(String boardId) {
+        return (String) templates.get(new TemplateKey(boardId, 0L, "exists", null),
+                k -> String.format(
+                        "SELECT COUNT(*) FROM board_%s WHERE idx = :idx AND is_deleted = false",
+                        boardId
+                ));
     }
 
     // PAGINATED SELECT
     public Page<Map<String, Object>> buildPaginatedListQuery(
             NamedParameterJdbcTemplate jdbcTemplate,
-            String boardId,
-            List<FieldDefinitionResponse> fields,
+            BoardSchema schema,
             SearchOption searchOption,
             PaginationOption pagination
     ) {
-        // 1. SELECT 필드 구성
-        String selectFields = fields.stream()
-                .map(FieldDefinitionResponse::getFieldName)
-                .collect(Collectors.joining(", "));
+        Map<String, Object> filterParams = new HashMap<>();
+        ListQuery query = prepareList(jdbcTemplate, schema, searchOption, pagination, filterParams);
 
-        // 2. WHERE 조건 조립
-        StringBuilder where = new StringBuilder("WHERE is_deleted = false");
-        Map<String, Object> params = new HashMap<>();
+        Map<String, Object> params = new HashMap<>(filterParams);
+        params.put("limit", query.size());
+        params.put("offset", query.offset());
+        params.put("unionLimit", query.offset() + query.size());
 
-        if (searchOption != null) {
-            // 2-1. 키워드 검색
-            String keyword = searchOption.getKeyword();
-            List<String> searchKeys = searchOption.getSearchKeys();
+        List<Map<String, Object>> content = jdbcTemplate.query(query.template().listSql(), params, new BoardRowMapper(schema));
 
-            if (keyword != null && !keyword.isBlank() && searchKeys != null && !searchKeys.isEmpty()) {
-                List<String> keywordConditions = new ArrayList<>();
-                for (String key : searchKeys) {
-                    keywordConditions.add(key + " LIKE :keyword");
-                }
-                where.append(" AND (").append(String.join(" OR ", keywordConditions)).append(")");
-                params.put("keyword", "%" + keyword.trim() + "%");
-            }
+        long total;
+        if (query.offset() == 0 && content.size() < query.size()) {
+            // 첫 페이지가 다 차지 않으면 조회 건수가 곧 전체 건수
+            total = content.size();
+        } else {
+            total = countOf(jdbcTemplate, schema, query, filterParams);
+        }
 
-            // 2-2. 날짜 범위 검색
-            String startDate = searchOption.getStartDate();
-            String endDate = searchOption.getEndDate();
+        return new PageImpl<>(content, pagination.toPageable(), total);
+    }
 
-            if (startDate != null && !startDate.isBlank() && endDate != null && !endDate.isBlank()) {
-                where.append(" AND created_date BETWEEN :startDate AND :endDate");
-                params.put("startDate", startDate);
-                params.put("endDate", endDate);
-            } else if (startDate != null && !startDate.isBlank()) {
-                where.append(" AND created_date >= :startDate");
-                params.put("startDate", startDate);
-            } else if (endDate != null && !endDate.isBlank()) {
-                where.append(" AND created_date <= :endDate");
-                params.put("endDate", endDate);
-            }
+    // SLICE SELECT (건수 조회 없이 다음 페이지 존재 여부만)
+    public Slice<Map<String, Object>> buildSliceListQuery(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            BoardSchema schema,
+            SearchOption searchOption,
+            PaginationOption pagination
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        ListQuery query = prepareList(jdbcTemplate, schema, searchOption, pagination, params);
+
+        // 다음 페이지 존재 여부 확인용 +1
+        params.put("limit", query.size() + 1);
+        params.put("offset", query.offset());
+        params.put("unionLimit", query.offset() + query.size() + 1);
+
+        List<Map<String, Object>> content = jdbcTemplate.query(query.template().listSql(), params, new BoardRowMapper(schema));
+
+        boolean hasNext = content.size() > query.size();
+        if (hasNext) {
+            content = content.subList(0, query.size());
         }
+        return new SliceImpl<>(content, pagination.toPageable(), hasNext);
+    }
 
-        // 3. 정렬 처리 (기본: created_date DESC)
-        String sortField = "created_date";
+    /**
+     * 목록 조회 공통 준비: 검색 조건 바인딩, 정렬 검증, 페이징 계산, SQL 템플릿
+     */
+    private ListQuery prepareList(NamedParameterJdbcTemplate jdbcTemplate, BoardSchema schema, SearchOption searchOption,
+                                  PaginationOption pagination, Map<String, Object> params) {
+        // 1. 바인딩 값 + 필터 형태
+        FilterShape filter = bindFilter(schema, searchOption, params);
+
+        // 2. 정렬 처리 (기본: created_date DESC, FULLTEXT 검색이면 관련도순)
+        String sortField = filter.fulltext() ? RELEVANCE : "created_date";
         String sortDir = "DESC";
 
         if (pagination.getSort() != null && !pagination.getSort().isBlank()) {
@@ -124,11 +241,9 @@ public class DynamicBoardSqlBuilder {
                 sortDir = sortParts[1].equalsIgnoreCase("ASC") ? "ASC" : "DESC";
             }
 
-            // 정렬 필드 유효성 검증 (화이트리스트)
-            boolean isValidSortField = fields.stream()
-                    .anyMatch(f -> f.getFieldName().equals(candidateSortField));
-
-            if (isValidSortField) {
+            // 정렬 필드 유효성 검증 (화이트리스트 + 대용량 게시판은 인덱스 필드만)
+            if (schema.getSortableFields().contains(candidateSortField)
+                    && canSortOn(jdbcTemplate, schema, candidateSortField)) {
                 sortField = candidateSortField; //유효하면 할당
             } else {
                 sortField = "created_date";
@@ -136,30 +251,379 @@ public class DynamicBoardSqlBuilder {
             }
         }
 
-        // 4. 페이징 처리
+        // 3. 페이징 처리
         int page = pagination.getPage() != null ? pagination.getPage() : 0;
         int size = pagination.getSize() != null ? pagination.getSize() : 10;
         int offset = page * size;
 
-        params.put("limit", size);
-        params.put("offset", offset);
+        // 4. SQL 템플릿
+        ListShape shape = new ListShape(filter, sortField, sortDir);
+        ListTemplate template = (ListTemplate) templates.get(
+                new TemplateKey(schema.getBoardId(), schema.getVersion(), "list", shape),
+                k -> buildListTemplate(schema, shape));
+        return new ListQuery(template, filter, size, offset);
+    }
+
+    /**
+     * 인덱스 없는 필드 정렬은 전체 건수가 임계값 이하인 게시판에서만 허용 (filesort 비용 제한)
+     */
+    private boolean canSortOn(NamedParameterJdbcTemplate jdbcTemplate, BoardSchema schema, String field) {
+        if (schema.getIndexedFields().contains(field)) {
+            return true;
+        }
+        String countSql = "SELECT COUNT(*) FROM " + schema.getTableName() + " WHERE is_deleted = false";
+        long total = boardCountCache.total(schema.getBoardId(), () -> count(jdbcTemplate, countSql, Map.of()));
+        return total <= unindexedSortMaxRows;
+    }
+
+    /**
+     * 목록 전체 건수
+     * - 검색 조건 없음: 게시판별 전체 건수 카운터
+     * - 검색 조건 있음: (게시판, 스키마 버전, 조건 형태, 바인딩 값) 단위 단기 캐시
+     */
+    private long countOf(NamedParameterJdbcTemplate jdbcTemplate, BoardSchema schema,
+                         ListQuery query, Map<String, Object> filterParams) {
+        String countSql = query.template().countSql();
+        if (query.filter().isEmpty()) {
+            return boardCountCache.total(schema.getBoardId(),
+                    () -> count(jdbcTemplate, countSql, filterParams));
+        }
+        CountKey key = new CountKey(schema.getBoardId(), schema.getVersion(), query.filter(), Map.copyOf(filterParams));
+        return boardCountCache.filtered(key, () -> count(jdbcTemplate, countSql, filterParams));
+    }
+
+    private long count(NamedParameterJdbcTemplate jdbcTemplate, String countSql, Map<String, Object> params) {
+        Long total = jdbcTemplate.queryForObject(countSql, params, Long.class);
+        return total != null ? total : 0L;
+    }
+
+    private ListTemplate buildListTemplate(BoardSchema schema, ListShape shape) {
+        String selectFields = String.join(", ", schema.getFieldNames());
 
-        String table = "board_" + boardId;
+        String where = buildWhere(shape.filter());
+
+        String table = schema.getTableName();
+        String orderBy = listOrder(shape, "created_date");
+
+        if (shape.filter().archive()) {
+            // 각 테이블에서 offset + limit건만 정렬해 가져온 뒤 합쳐서 다시 정렬
+            String columns = "idx, " + selectFields + ", created_date AS " + UNION_CREATED_ALIAS;
+            String listSql = String.format(
+                    "SELECT idx, %s FROM (%s) u ORDER BY %s LIMIT :limit OFFSET :offset",
+                    selectFields,
+                    unionArchive(schema, columns, where, orderBy, ":unionLimit"),
+                    listOrder(shape, UNION_CREATED_ALIAS)
+            );
+            String countSql = String.format(
+                    "SELECT (SELECT COUNT(*) FROM %s %s) + (SELECT COUNT(*) FROM %s %s)",
+                    table, where, schema.getArchiveTableName(), where
+            );
+            return new ListTemplate(listSql, countSql);
+        }
 
-        // 5. 최종 쿼리 조립
         String listSql = String.format(
-                "SELECT idx, %s FROM %s %s ORDER BY %s %s LIMIT :limit OFFSET :offset",
-                selectFields, table, where, sortField, sortDir
+                "SELECT idx, %s FROM %s %s ORDER BY %s LIMIT :limit OFFSET :offset",
+                selectFields, table, where, orderBy
         );
-
         String countSql = String.format(
                 "SELECT COUNT(*) FROM %s %s", table, where
         );
+        return new ListTemplate(listSql, countSql);
+    }
 
-        // 6. 실행 및 결과 매핑
-        List<Map<String, Object>> content = jdbcTemplate.queryForList(listSql, params);
-        int total = jdbcTemplate.queryForObject(countSql, params, Integer.class);
+    private String listOrder(ListShape shape, String createdColumn) {
+        if (RELEVANCE.equals(shape.sortField())) {
+            return matchExpression(shape.filter()) + " DESC, " + createdColumn + " DESC";
+        }
+        if ("created_date".equals(shape.sortField())) {
+            return createdColumn + " " + shape.sortDir();
+        }
+        // (is_deleted, field, idx) 인덱스 순서와 일치 + 동일 값 간 순서 고정
+        return shape.sortField() + " " + shape.sortDir() + ", idx " + shape.sortDir();
+    }
 
-        return new PageImpl<>(content, pagination.toPageable(), total);
+    /**
+     * 게시판 테이블과 보관 테이블에 같은 조건/정렬/건수 제한을 건 UNION ALL
+     * (limit이 null이면 건수 제한 없이 합침)
+     */
+    private String unionArchive(BoardSchema schema, String columns, String where, String orderBy, String limit) {
+        String branch = limit != null
+                ? "(SELECT %s FROM %s %s ORDER BY %s LIMIT " + limit + ")"
+                : "(SELECT %s FROM %s %s)";
+        return String.format(branch, columns, schema.getTableName(), where, orderBy)
+                + " UNION ALL "
+                + String.format(branch, columns, schema.getArchiveTableName(), where, orderBy);
     }
-}
\ No newline at end of file
+
+    // CURSOR (keyset) SELECT
+    public CursorSliceResponse<Map<String, Object>> buildCursorListQuery(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            BoardSchema schema,
+            SearchOption searchOption,
+            CursorOption cursorOption
+    ) {
+        Map<String, Object> params = new HashMap<>();
+        FilterShape filter = bindFilter(schema, searchOption, params);
+
+        int size = cursorOption.getSize() != null ? cursorOption.getSize() : 10;
+        boolean backward = cursorOption.isBackward();
+        String token = cursorOption.getCursor();
+        boolean seek = token != null && !token.isBlank();
+
+        if (seek) {
+            BoardCursor cursor = BoardCursor.decode(token);
+            params.put("cursorCreated", new Timestamp(cursor.createdMillis()));
+            params.put("cursorIdx", cursor.idx());
+        } else {
+            // 커서 없이 이전 페이지는 없음 → 첫 페이지
+            backward = false;
+        }
+        // 다음 페이지 존재 여부 확인용 +1
+        params.put("limit", size + 1);
+
+        CursorShape shape = new CursorShape(filter, backward, seek);
+        String sql = (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "cursor", shape),
+                k -> buildCursorTemplate(schema, shape));
+
+        List<Map<String, Object>> rows = jdbcTemplate.query(sql, params, new BoardRowMapper(schema));
+
+        boolean more = rows.size() > size;
+        if (more) {
+            rows = rows.subList(0, size);
+        }
+        List<BoardCursor> keys = new ArrayList<>(rows.size());
+        List<Map<String, Object>> content = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            long created = toEpochMillis(row.remove(CURSOR_CREATED_KEY));
+            keys.add(new BoardCursor(created, ((Number) row.get("idx")).longValue()));
+            content.add(row);
+        }
+        if (backward) {
+            // 역방향 조회 결과를 화면 순서(최신 → 과거)로 복원
+            Collections.reverse(content);
+            Collections.reverse(keys);
+        }
+
+        boolean hasNext = backward || more;
+        boolean hasPrevious = backward ? more : seek;
+
+        return CursorSliceResponse.<Map<String, Object>>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext && !keys.isEmpty())
+                .hasPrevious(hasPrevious && !keys.isEmpty())
+                .nextCursor(keys.isEmpty() ? null : keys.get(keys.size() - 1).encode())
+                .prevCursor(keys.isEmpty() ? null : keys.get(0).encode())
+                .build();
+    }
+
+    // EXPORT (전체 스트리밍, PK 순)
+    public String buildExportQuery(BoardSchema schema, SearchOption searchOption, Map<String, Object> params) {
+        FilterShape filter = bindFilter(schema, searchOption, params);
+        return (String) templates.get(new TemplateKey(schema.getBoardId(), schema.getVersion(), "export", filter),
+                k -> buildExportTemplate(schema, filter));
+    }
+
+    private String buildExportTemplate(BoardSchema schema, FilterShape filter) {
+        if (filter.archive()) {
+            String columns = "idx, " + String.join(", ", schema.getFieldNames());
+            return String.format(
+                    "SELECT %s FROM (%s) u ORDER BY idx ASC",
+                    columns, unionArchive(schema, columns, buildWhere(filter), null, null)
+            );
+        }
+        return String.format(
+                "SELECT idx, %s FROM %s %s ORDER BY idx ASC",
+                String.join(", ", schema.getFieldNames()), schema.getTableName(), buildWhere(filter)
+        );
+    }
+
+    /**
+     * keyset 조건은 (created_date, idx) 행 비교 대신 풀어 쓴 형태를 사용
+     * → idx_board_x__isdel_created (is_deleted, created_date [, PK idx]) 범위 탐색
+     */
+    private String buildCursorTemplate(BoardSchema schema, CursorShape shape) {
+        StringBuilder where = new StringBuilder(buildWhere(shape.filter()));
+        if (shape.seek()) {
+            if (shape.backward()) {
+                where.append(" AND (created_date > :cursorCreated OR (created_date = :cursorCreated AND idx > :cursorIdx))");
+            } else {
+                where.append(" AND (created_date < :cursorCreated OR (created_date = :cursorCreated AND idx < :cursorIdx))");
+            }
+        }
+        String order = shape.backward() ? "created_date ASC, idx ASC" : "created_date DESC, idx DESC";
+
+        if (shape.filter().archive()) {
+            String columns = "idx, created_date AS " + CURSOR_CREATED_ALIAS + ", " + String.join(", ", schema.getFieldNames());
+            return String.format(
+                    "SELECT * FROM (%s) u ORDER BY %s LIMIT :limit",
+                    unionArchive(schema, columns, where.toString(), order, ":limit"),
+                    order.replace("created_date", CURSOR_CREATED_ALIAS)
+            );
+        }
+
+        return String.format(
+                "SELECT idx, created_date AS %s, %s FROM %s %s ORDER BY %s LIMIT :limit",
+                CURSOR_CREATED_ALIAS, String.join(", ", schema.getFieldNames()), schema.getTableName(), where, order
+        );
+    }
+
+    /** 드라이버에 따라 DATETIME이 Timestamp 또는 LocalDateTime으로 반환됨 (바인딩과 같은 JVM 기본 시간대 기준) */
+    private long toEpochMillis(Object value) {
+        if (value instanceof Timestamp ts) return ts.getTime();
+        if (value instanceof LocalDateTime ldt) return Timestamp.valueOf(ldt).getTime();
+        if (value instanceof java.util.Date d) return d.getTime();
+        return 0L;
+    }
+
+    /**
+     * 검색 조건 바인딩 값을 params에 채우고, SQL 형태만 반환
+     */
+    private FilterShape bindFilter(BoardSchema schema, SearchOption searchOption, Map<String, Object> params) {
+        List<String> keywordKeys = Collections.emptyList();
+        boolean fulltext = false;
+        int dateShape = DATE_NONE;
+        boolean archive = false;
+
+        if (searchOption != null) {
+            // 날짜 범위 검색
+            String startDate = searchOption.getStartDate();
+            String endDate = searchOption.getEndDate();
+            boolean hasStart = startDate != null && !startDate.isBlank();
+            boolean hasEnd = endDate != null && !endDate.isBlank();
+
+            if (hasStart && hasEnd) {
+                dateShape = DATE_BETWEEN;
+                params.put("startDate", startDate);
+                params.put("endDate", endDate);
+            } else if (hasStart) {
+                dateShape = DATE_FROM;
+                params.put("startDate", startDate);
+            } else if (hasEnd) {
+                dateShape = DATE_TO;
+                params.put("endDate", endDate);
+            }
+
+            // 날짜 조건의 하한이 없거나 보관 기준 시각보다 이를 때만 보관 테이블 포함
+            if (schema.hasArchive() && dateShape != DATE_NONE) {
+                archive = !hasStart || reachesArchive(startDate, schema.getArchiveWatermark());
+            }
+
+            // 키워드 검색 (보관 테이블에는 FULLTEXT 인덱스가 없으므로 LIKE)
+            String keyword = searchOption.getKeyword();
+            // 검색 키는 SQL에 컬럼명으로 들어가므로 시스템 텍스트 컬럼과 스키마에 정의된 필드만 사용
+            List<String> searchKeys = searchOption.getSearchKeys() == null ? null
+                    : searchOption.getSearchKeys().stream()
+                            .filter(k -> SEARCHABLE_SYSTEM_COLUMNS.contains(k) || schema.getFieldNames().contains(k))
+                            .distinct()
+                            .collect(Collectors.toList());
+
+            boolean hasKeyword = keyword != null && !keyword.isBlank();
+            if (hasKeyword && searchKeys != null && searchKeys.isEmpty() && !searchOption.getSearchKeys().isEmpty()) {
+                // 유효한 키가 하나도 없으면 조건 없이 전체 목록을 돌려주지 않도록 거부
+                throw new IllegalArgumentException("검색할 수 없는 항목입니다: " + searchOption.getSearchKeys());
+            }
+
+            if (hasKeyword && searchKeys != null && !searchKeys.isEmpty()) {
+                String booleanPhrase = archive ? null : toBooleanPhrase(keyword);
+                List<String> indexed = schema.getFulltextFields();
+                if (booleanPhrase != null && !indexed.isEmpty()
+                        && new HashSet<>(searchKeys).equals(new HashSet<>(indexed))) {
+                    // 검색 키가 FULLTEXT 인덱스 컬럼과 일치 → MATCH (컬럼 순서는 인덱스 정의 순)
+                    keywordKeys = indexed;
+                    fulltext = true;
+                    params.put("ftKeyword", booleanPhrase);
+                } else {
+                    keywordKeys = List.copyOf(searchKeys);
+                    params.put("keyword", "%" + keyword.trim() + "%");
+                }
+            }
+        }
+        return new FilterShape(keywordKeys, fulltext, dateShape, archive);
+    }
+
+    /**
+     * 키워드 → BOOLEAN MODE 구문 검색어 ("..." 로 감싸 LIKE와 같은 부분 일치)
+     * ngram 토큰(기본 2자)보다 짧은 단어가 있으면 FULLTEXT로 찾을 수 없으므로 null (LIKE 사용)
+     */
+    private String toBooleanPhrase(String keyword) {
+        String cleaned = keyword.replace("\"", " ").trim();
+        if (cleaned.isEmpty()) return null;
+        for (String word : cleaned.split("\\s+")) {
+            if (word.length() < MIN_FULLTEXT_TOKEN) return null;
+        }
+        return "\"" + cleaned + "\"";
+    }
+
+    /** 시작일(yyyy-MM-dd…)이 보관 기준 시각 이전인지 (해석할 수 없으면 보관 테이블 포함) */
+    private boolean reachesArchive(String startDate, LocalDateTime watermark) {
+        try {
+            String day = startDate.trim();
+            return LocalDate.parse(day.length() > 10 ? day.substring(0, 10) : day)
+                    .atStartOfDay().isBefore(watermark);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+
+    private String matchExpression(FilterShape filter) {
+        return "MATCH(" + String.join(", ", filter.keywordKeys()) + ") AGAINST(:ftKeyword IN BOOLEAN MODE)";
+    }
+
+    private String buildWhere(FilterShape filter) {
+        StringBuilder where = new StringBuilder("WHERE is_deleted = false");
+        if (filter.fulltext()) {
+            where.append(" AND ").append(matchExpression(filter));
+        } else if (!filter.keywordKeys().isEmpty()) {
+            List<String> keywordConditions = new ArrayList<>();
+            for (String key : filter.keywordKeys()) {
+                keywordConditions.add(key + " LIKE :keyword");
+            }
+            where.append(" AND (").append(String.join(" OR ", keywordConditions)).append(")");
+        }
+        switch (filter.dateShape()) {
+            case DATE_BETWEEN -> where.append(" AND created_date BETWEEN :startDate AND :endDate");
+            case DATE_FROM -> where.append(" AND created_date >= :startDate");
+            case DATE_TO -> where.append(" AND created_date <= :endDate");
+            default -> { }
+        }
+        return where.toString();
+    }
+
+    /**
+     * data에 포함된 필드 조합 (필드 순서 기준 비트마스크, 64개 초과 시 BitSet)
+     */
+    private Object columnSubset(List<FieldDefinitionResponse> fields, Map<String, Object> data) {
+        int n = fields.size();
+        if (n <= 64) {
+            long mask = 0L;
+            for (int i = 0; i < n; i++) {
+                if (data.containsKey(fields.get(i).getFieldName())) mask |= 1L << i;
+            }
+            return mask;
+        }
+        BitSet bits = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            if (data.containsKey(fields.get(i).getFieldName())) bits.set(i);
+        }
+        return bits;
+    }
+
+    private record TemplateKey(String boardId, long version, String kind, Object shape) {}
+
+    private record FilterShape(List<String> keywordKeys, boolean fulltext, int dateShape, boolean archive) {
+        boolean isEmpty() {
+            return keywordKeys.isEmpty() && dateShape == DATE_NONE;
+        }
+    }
+
+    private record ListShape(FilterShape filter, String sortField, String sortDir) {}
+
+    private record CursorShape(FilterShape filter, boolean backward, boolean seek) {}
+
+    private record ListTemplate(String listSql, String countSql) {}
+
+    private record ListQuery(ListTemplate template, FilterShape filter, int size, int offset) {}
+
+    private record CountKey(String boardId, long version, FilterShape filter, Map<String, Object> params) {}
+}
@@ -0,0 +1,409 @@
+package kr.co.itid.cms.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.itid.cms.service.auth.model.MenuPermissionData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static kr.co.itid.cms.constanrt.RedisConstants.*;
+
+/**
+ * 메뉴 권한 2단 캐시 관리 서비스
+ *
+ * - L1: 노드 로컬 캐시 (menuId → 컴파일된 MenuPermissionData)
+ * - L2: Redis (perm:menu:{menuId})
+ * - L2 TTL 연장은 L1을 다시 채울 때만 수행 (조회마다 EXPIRE 하지 않음)
+ * - 무효화는 Pub/Sub으로 전파하여 모든 노드의 L1에서 제거
+ *
+ * 재구성(rebuild)은 메뉴 단위 single-flight로 수행한다.
+ * - 노드 내: 진행 중인 재구성이 있으면 합류
+ * - 노드 간: Redis 임대(SET NX + TTL)를 얻은 노드만 DB 조회
+ * - 무효화된 값은 짧은 기간 stale 사본으로 보관하여, 재구성 중인 동안 대신 응답 (stale-while-revalidate)
+ *
+ * 관리자 변경 후에는 하위 트리 전체를 미리 계산하여 putAll로 일괄 적재한다.
+ *
+ * L1 적재는 무효화 세대를 확인한다. 조회/재구성 시작 후 같은 메뉴가 무효화되었으면
+ * 무효화 이전에 읽은 값이므로 L1에 남기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionCacheService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // 다른 노드의 재구성을 기다리는 최대 시간 / 확인 간격 (ms)
+    private static final long PEER_WAIT_MILLIS = 2000;
+    private static final long PEER_POLL_MILLIS = 50;
+
+    /**
+     * 최신 키 → stale 키 이동 (존재하는 키만)
+     * KEYS = [fresh1, stale1, fresh2, stale2, ...], ARGV[1] = stale TTL(초)
+     */
+    private static final RedisScript<Long> MOVE_TO_STALE_SCRIPT = new DefaultRedisScript<>(
+            "local n = 0 " +
+            "for i = 1, #KEYS, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('RENAME', KEYS[i], KEYS[i + 1]) " +
+            "    redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+            "    n = n + 1 " +
+            "  end " +
+            "end " +
+            "return n",
+            Long.class);
+
+    /** 본인이 획득한 임대만 해제 */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, MenuPermissionData> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${permission.cache.l1-ttl-seconds:600}")
+    private long l1TtlSeconds;
+
+    @Value("${permission.cache.l1-max-size:5000}")
+    private long l1MaxSize;
+
+    private Cache<Long, MenuPermissionData> localCache;
+
+    // 무효화 직후의 이전 값 (재구성 중 대체 응답용)
+    private Cache<Long, MenuPermissionData> staleCache;
+
+    // 무효화 세대 (menuId → 무효화 시점의 세대, L1 TTL 동안 보관)
+    private final AtomicLong evictSeq = new AtomicLong();
+    private Cache<Long, Long> evictedAt;
+
+    // menuId → 진행 중인 재구성
+    private final ConcurrentMap<Long, CompletableFuture<MenuPermissionData>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 권한 데이터 생성 함수
+     */
+    @FunctionalInterface
+    public interface Loader {
+        MenuPermissionData load() throws Exception;
+    }
+
+    @PostConstruct
+    void init() {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .build();
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(PERMISSION_STALE_TTL)
+                .build();
+        this.evictedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .build();
+
+        listenerContainer.addMessageListener(this::onEvict, new ChannelTopic(PERMISSION_EVICT_CHANNEL));
+    }
+
+    /**
+     * 권한 데이터 조회 (L1 → L2)
+     * @return 캐시에 없으면 null
+     */
+    public MenuPermissionData get(Long menuId) {
+        MenuPermissionData local = localCache.getIfPresent(menuId);
+        if (local != null) {
+            return local;
+        }
+
+        // L2 조회 전에 세대를 기록해야 그 사이의 무효화를 감지할 수 있음
+        final long mark = evictSeq.get();
+        String key = getCacheKey(menuId);
+        MenuPermissionData remote = redisTemplate.opsForValue().get(key);
+        if (remote != null) {
+            // L1 재적재 시점에만 L2 TTL 연장
+            redisTemplate.expire(key, PERMISSION_TTL);
+            remote.compiled();
+            localCache.put(menuId, remote);
+            // 무효화 처리가 put보다 먼저 끝났으면 방금 넣은 이전 값을 되돌림
+            if (evictedSince(menuId, mark)) {
+                localCache.asMap().remove(menuId, remote);
+            }
+        }
+        return remote;
+    }
+
+    /**
+     * 권한 데이터 저장 (L2 + L1)
+     */
+    public void put(Long menuId, MenuPermissionData data) {
+        redisTemplate.opsForValue().set(getCacheKey(menuId), data, PERMISSION_TTL);
+        data.compiled();
+        localCache.put(menuId, data);
+        staleCache.invalidate(menuId);
+    }
+
+    /**
+     * 권한 데이터 일괄 저장 (사전 계산 결과)
+     *
+     * - L2: 파이프라인으로 SET + stale 키 삭제 (청크당 왕복 1회)
+     * - L1: 모든 노드에서 제거 → 다음 조회 시 L2의 새 값으로 재적재
+     * @return 저장한 메뉴 수
+     */
+    public int putAll(Map<Long, MenuPermissionData> dataByMenuId) {
+        if (dataByMenuId == null || dataByMenuId.isEmpty()) return 0;
+
+        List<Map.Entry<Long, MenuPermissionData>> entries = new ArrayList<>(dataByMenuId.entrySet());
+        for (int i = 0; i < entries.size(); i += CHUNK_SIZE) {
+            List<Map.Entry<Long, MenuPermissionData>> part = entries.subList(i, Math.min(i + CHUNK_SIZE, entries.size()));
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, MenuPermissionData> ops = (RedisOperations<String, MenuPermissionData>) operations;
+                    for (Map.Entry<Long, MenuPermissionData> e : part) {
+                        ops.opsForValue().set(getCacheKey(e.getKey()), e.getValue(), PERMISSION_TTL);
+                        ops.delete(getStaleKey(e.getKey()));
+                    }
+                    return null;
+                }
+            });
+
+            List<Long> ids = part.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+            localCache.invalidateAll(ids);
+            staleCache.invalidateAll(ids);
+
+            String message = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+            stringRedisTemplate.convertAndSend(PERMISSION_EVICT_CHANNEL, message);
+        }
+        return entries.size();
+    }
+
+    /**
+     * 캐시 미스 시 재구성 (single-flight + stale-while-revalidate)
+     *
+     * @param menuId 메뉴 ID
+     * @param loader DB 기반 권한 데이터 생성 함수
+     * @return 재구성된 값, 또는 다른 곳에서 재구성 중일 때의 stale 값
+     */
+    public MenuPermissionData rebuild(Long menuId, Loader loader) throws Exception {
+        CompletableFuture<MenuPermissionData> mine = new CompletableFuture<>();
+        CompletableFuture<MenuPermissionData> running = inflight.putIfAbsent(menuId, mine);
+
+        // 1) 같은 노드에서 재구성 중: stale이 있으면 즉시 응답, 없으면 합류
+        if (running != null) {
+            MenuPermissionData stale = getStale(menuId);
+            return stale != null ? stale : await(running);
+        }
+
+        try {
+            final String leaseToken = UUID.randomUUID().toString();
+            final boolean leased = tryAcquireLease(menuId, leaseToken);
+
+            // 2) 다른 노드가 재구성 중: stale 응답 또는 결과 대기
+            if (!leased) {
+                MenuPermissionData other = getStale(menuId);
+                if (other == null) {
+                    other = waitForPeer(menuId);
+                }
+                if (other != null) {
+                    mine.complete(other);
+                    return other;
+                }
+                // 대기 시간 초과 → 직접 재구성
+            }
+
+            // 3) 직접 재구성
+            try {
+                final long mark = evictSeq.get();
+                MenuPermissionData built = loader.load();
+                if (!evictedSince(menuId, mark)) {
+                    put(menuId, built);
+                    if (evictedSince(menuId, mark)) {
+                        // put 도중 무효화됨 → 무효화 이전 데이터로 만든 값이므로 L1/L2 모두 제거
+                        localCache.asMap().remove(menuId, built);
+                        redisTemplate.delete(getCacheKey(menuId));
+                    }
+                }
+                // 무효화된 경우 이번 요청에만 사용하고 캐시하지 않음 (다음 조회에서 재구성)
+                mine.complete(built);
+                return built;
+            } finally {
+                if (leased) {
+                    releaseLease(menuId, leaseToken);
+                }
+            }
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(menuId, mine);
+        }
+    }
+
+    /**
+     * 권한 캐시 무효화 (최신 값은 stale로 보관 후 다른 노드에 전파)
+     * @return 무효화된 L2 키 수
+     */
+    public long evict(Collection<Long> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) return 0L;
+
+        List<Long> ids = new ArrayList<>(menuIds);
+        moveLocalToStale(ids);
+
+        long moved = 0L;
+        final String staleTtl = String.valueOf(PERMISSION_STALE_TTL.getSeconds());
+        for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+            List<Long> part = ids.subList(i, Math.min(i + CHUNK_SIZE, ids.size()));
+
+            List<String> keys = new ArrayList<>(part.size() * 2);
+            for (Long id : part) {
+                keys.add(getCacheKey(id));
+                keys.add(getStaleKey(id));
+            }
+            Long count = stringRedisTemplate.execute(MOVE_TO_STALE_SCRIPT, keys, staleTtl);
+            moved += (count == null ? 0L : count);
+
+            String message = part.stream().map(String::valueOf).collect(Collectors.joining(","));
+            stringRedisTemplate.convertAndSend(PERMISSION_EVICT_CHANNEL, message);
+        }
+        return moved;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 → L1 제거 (stale로 보관)
+     */
+    private void onEvict(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> ids = new ArrayList<>();
+        for (String token : body.split(",")) {
+            if (token.isBlank()) continue;
+            try {
+                ids.add(Long.parseLong(token.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("[Permission Cache] 잘못된 무효화 메시지: {}", token);
+            }
+        }
+        moveLocalToStale(ids);
+    }
+
+    private void moveLocalToStale(List<Long> ids) {
+        // 세대를 먼저 기록 → 진행 중인 조회/재구성이 이후 L1에 넣더라도 스스로 되돌림
+        final long seq = evictSeq.incrementAndGet();
+        for (Long id : ids) {
+            evictedAt.put(id, seq);
+        }
+        for (Long id : ids) {
+            MenuPermissionData previous = localCache.asMap().remove(id);
+            if (previous != null) {
+                staleCache.put(id, previous);
+            }
+        }
+    }
+
+    /** mark 이후 해당 메뉴가 무효화되었는지 */
+    private boolean evictedSince(Long menuId, long mark) {
+        Long at = evictedAt.getIfPresent(menuId);
+        return at != null && at > mark;
+    }
+
+    /** stale 값 조회 (로컬 → Redis) */
+    private MenuPermissionData getStale(Long menuId) {
+        MenuPermissionData local = staleCache.getIfPresent(menuId);
+        if (local != null) {
+            return local;
+        }
+        try {
+            MenuPermissionData remote = redisTemplate.opsForValue().get(getStaleKey(menuId));
+            if (remote != null) {
+                staleCache.put(menuId, remote);
+            }
+            return remote;
+        } catch (Exception e) {
+            log.warn("[Permission Cache] stale 조회 실패: menuId={}, error={}", menuId, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 다른 노드의 재구성 결과(L2)를 잠시 대기 */
+    private MenuPermissionData waitForPeer(Long menuId) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + PEER_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(PEER_POLL_MILLIS);
+            MenuPermissionData fresh = get(menuId);
+            if (fresh != null) {
+                return fresh;
+            }
+        }
+        return null;
+    }
+
+    private MenuPermissionData await(CompletableFuture<MenuPermissionData> running) throws Exception {
+        try {
+            return running.get(PERMISSION_LEASE_TTL.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw (cause instanceof Exception) ? (Exception) cause : e;
+        }
+    }
+
+    private boolean tryAcquireLease(Long menuId, String token) {
+        try {
+            Boolean ok = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(getLeaseKey(menuId), token, PERMISSION_LEASE_TTL);
+            return Boolean.TRUE.equals(ok);
+        } catch (Exception e) {
+            // 임대 확인 불가 시 로컬 single-flight만으로 진행
+            log.warn("[Permission Cache] 재구성 임대 획득 실패: menuId={}, error={}", menuId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(Long menuId, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(getLeaseKey(menuId)), token);
+        } catch (Exception e) {
+            // TTL로 자동 해제됨
+            log.warn("[Permission Cache] 재구성 임대 해제 실패: menuId={}, error={}", menuId, e.getMessage());
+        }
+    }
+
+    private String getCacheKey(Long menuId) {
+        return PERMISSION_KEY_PREFIX + menuId;
+    }
+
+    private String getStaleKey(Long menuId) {
+        return PERMISSION_STALE_KEY_PREFIX + menuId;
+    }
+
+    private String getLeaseKey(Long menuId) {
+        return PERMISSION_LEASE_KEY_PREFIX + menuId;
+    }
+}
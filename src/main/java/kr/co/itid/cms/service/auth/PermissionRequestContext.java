@@ -0,0 +1,154 @@
+package kr.co.itid.cms.service.auth;
+
+import kr.co.itid.cms.service.auth.model.MenuPermissionData;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 단위 권한 판정 메모
+ *
+ * 한 요청 안에서 @PreAuthorize, getPermissionByMenu, 소유자 확인이 같은 메뉴 권한을
+ * 여러 번 해석하지 않도록, 첫 결과를 요청 속성에 보관해 이후에는 필드 조회로 처리한다.
+ * 요청 컨텍스트가 없는 스레드(스케줄러, 백그라운드 작업)에서는 메모 없이 그대로 계산한다.
+ */
+public final class PermissionRequestContext {
+
+    private static final String ATTRIBUTE = PermissionRequestContext.class.getName();
+
+    // menuId → 권한 데이터
+    private final Map<Long, MenuPermissionData> permissionData = new HashMap<>(4);
+
+    // 판정 키 → 결과
+    private final Map<String, Object> decisions = new HashMap<>(8);
+
+    // 작성자 조건부 쓰기가 필요한 게시글 (MODIFY/REMOVE 판정 시 표시)
+    private final Set<Long> ownershipRequired = new HashSet<>(2);
+
+    private int resolved;
+    private int avoided;
+
+    private PermissionRequestContext() {}
+
+    /**
+     * 현재 요청의 컨텍스트 (요청 스레드가 아니면 null)
+     */
+    public static PermissionRequestContext current() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+
+        Object existing = attrs.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof PermissionRequestContext ctx) {
+            return ctx;
+        }
+        PermissionRequestContext ctx = new PermissionRequestContext();
+        attrs.setAttribute(ATTRIBUTE, ctx, RequestAttributes.SCOPE_REQUEST);
+        return ctx;
+    }
+
+    /**
+     * 이미 생성된 컨텍스트만 조회 (없으면 null)
+     */
+    public static PermissionRequestContext peek() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+        Object existing = attrs.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return existing instanceof PermissionRequestContext ctx ? ctx : null;
+    }
+
+    /**
+     * 메뉴 권한 데이터 메모 조회/적재
+     */
+    public static MenuPermissionData permissionData(Long menuId, Loader<MenuPermissionData> loader) throws Exception {
+        PermissionRequestContext ctx = current();
+        if (ctx == null) {
+            return loader.load();
+        }
+        MenuPermissionData cached = ctx.permissionData.get(menuId);
+        if (cached != null) {
+            ctx.avoided++;
+            return cached;
+        }
+        MenuPermissionData loaded = loader.load();
+        ctx.resolved++;
+        if (loaded != null) {
+            ctx.permissionData.put(menuId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 판정 결과 메모 조회/적재
+     *
+     * @param key 사용자/메뉴/권한/대상이 모두 포함된 판정 키
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decision(String key, Loader<T> loader) throws Exception {
+        PermissionRequestContext ctx = current();
+        if (ctx == null) {
+            return loader.load();
+        }
+        Object cached = ctx.decisions.get(key);
+        if (cached != null) {
+            ctx.avoided++;
+            return (T) cached;
+        }
+        T loaded = loader.load();
+        ctx.resolved++;
+        if (loaded != null) {
+            ctx.decisions.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 게시글 소유자 확인을 쓰기 쿼리로 위임
+     * 요청 컨텍스트가 없으면 false → 호출 측에서 직접 소유자 확인
+     */
+    public static boolean requireOwnership(Long postId) {
+        PermissionRequestContext ctx = current();
+        if (ctx == null) return false;
+        ctx.ownershipRequired.add(postId);
+        return true;
+    }
+
+    /**
+     * 해당 게시글 쓰기에 작성자 조건이 필요한지 여부
+     */
+    public static boolean isOwnershipRequired(Long postId) {
+        PermissionRequestContext ctx = peek();
+        return ctx != null && ctx.ownershipRequired.contains(postId);
+    }
+
+    /** 판정 키 생성 */
+    public static String key(Object... parts) {
+        StringBuilder sb = new StringBuilder(48);
+        for (Object part : parts) {
+            if (sb.length() > 0) sb.append('|');
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+
+    /** 실제로 계산한 횟수 */
+    public int getResolved() {
+        return resolved;
+    }
+
+    /** 메모로 생략한 횟수 */
+    public int getAvoided() {
+        return avoided;
+    }
+
+    /**
+     * 메모 대상 계산 함수
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Exception;
+    }
+}
@@ -3,6 +3,9 @@ package kr.co.itid.cms.service.auth;
 import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
 import kr.co.itid.cms.service.auth.model.PermissionEntry;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * PermissionResolverService 인터페이스
  * 사용자 및 권한 정보를 기반으로 실제 메뉴 접근 권한 여부를 판단하는 기능을 정의합니다.
@@ -27,4 +30,24 @@ public interface PermissionResolverService {
      * @throws Exception 캐시 조회 또는 권한 판단 중 예외 발생 시
      */
     PermissionEntry resolvePermissions(JwtAuthenticatedUser user) throws Exception;
+
+    /**
+     * 지정 메뉴와 모든 하위 메뉴의 권한 데이터를 한 번에 계산하여 캐시에 적재합니다.
+     * 관리자 권한/메뉴 변경 직후 첫 요청의 캐시 미스를 막기 위해 사용합니다.
+     *
+     * @param menuId 기준 메뉴 ID (보통 드라이브 루트)
+     * @return 캐시에 적재한 메뉴 수
+     * @throws Exception 메뉴/권한 조회 또는 캐시 저장 중 예외 발생 시
+     */
+    int precomputeSubtree(Long menuId) throws Exception;
+
+    /**
+     * 메뉴별 자체 권한 엔트리를 평가 순서(사용자 → 등급, 각각 sort 순)로 조회합니다.
+     * 상속은 적용하지 않으며, 호출 측에서 경로를 따라 합성합니다.
+     *
+     * @param menuIds 메뉴 ID 목록
+     * @return 메뉴 ID → 정렬된 권한 엔트리 (권한이 없는 메뉴는 포함되지 않음)
+     * @throws Exception 권한 조회 또는 값 파싱 중 예외 발생 시
+     */
+    Map<Long, List<PermissionEntry>> getOwnEntries(List<Long> menuIds) throws Exception;
 }
\ No newline at end of file
@@ -35,6 +35,19 @@ public interface PermissionService {
      */
     boolean hasAccess(String permission, Long postId) throws Exception;
 
+    /**
+     * 게시글 수정/삭제 요청 전용 권한 검사입니다.
+     * 메뉴 권한만 확인하고, 작성자 확인은 뒤이은 UPDATE/DELETE 문의 조건으로 위임합니다
+     * (영향 행 수로 403/404 판정). 쓰기 쿼리가 작성자 조건을 적용하는 호출부에서만 사용해야 합니다.
+     * 요청 컨텍스트가 없으면 {@link #hasAccess(String, Long)}와 같이 작성자를 직접 확인합니다.
+     *
+     * @param permission MODIFY 또는 REMOVE
+     * @param postId     대상 게시글 식별자
+     * @return 권한이 있을 경우 true, 없으면 false
+     * @throws Exception 예외 발생 시
+     */
+    boolean hasAccessOwnedWrite(String permission, Long postId) throws Exception;
+
     /**
      * 현재 로그인한 사용자가 접근 중인 메뉴에 대해 갖고 있는 모든 권한 정보를 반환합니다.
      *
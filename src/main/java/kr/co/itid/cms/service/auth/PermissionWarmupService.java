@@ -0,0 +1,16 @@
+package kr.co.itid.cms.service.auth;
+
+/**
+ * PermissionWarmupService 인터페이스
+ * 관리자 권한/메뉴 변경 후 하위 메뉴 권한 캐시를 백그라운드에서 미리 채우는 기능을 정의합니다.
+ */
+public interface PermissionWarmupService {
+
+    /**
+     * 지정 메뉴 하위 트리의 권한 캐시 사전 계산을 요청합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행되며, 같은 메뉴에 대한 대기 중 요청은 하나로 합쳐집니다.
+     *
+     * @param menuId 기준 메뉴 ID
+     */
+    void requestWarmup(Long menuId);
+}
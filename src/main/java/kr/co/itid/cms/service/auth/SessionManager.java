@@ -45,6 +45,23 @@ public interface SessionManager {
      */
     void touchSession(String sid) throws Exception;
 
+    /**
+     * 세션 조회 + 슬라이딩을 Redis 1회 왕복으로 처리한다.
+     * lastActivity는 설정된 갱신 주기(sessionTouchWindowSeconds)가 지난 경우에만 다시 기록한다.
+     * @param sid 세션 ID
+     * @return 세션 데이터 (없거나 Redis 장애 시 Optional.empty())
+     */
+    Optional<SessionData> getAndTouchSession(String sid);
+
+    /**
+     * 최근에 철회(삭제)된 세션인지 확인한다.
+     * 로그아웃/강제 삭제 후 Pub/Sub으로 전파된 sid를 노드 로컬에 잠시 기록해 두므로,
+     * 철회 이전에 시작된 조회/재발급 결과를 캐시에 남기지 않는 데 사용한다.
+     * @param sid 세션 ID
+     * @return 철회 기록이 있으면 true
+     */
+    boolean isRevoked(String sid);
+
     /**
      * Redis 상태 확인
      * @return Redis가 정상이면 true
@@ -5,13 +5,14 @@ import kr.co.itid.cms.entity.cms.core.menu.Menu;
 import kr.co.itid.cms.entity.cms.core.permission.Permission;
 import kr.co.itid.cms.repository.cms.core.menu.MenuRepository;
 import kr.co.itid.cms.repository.cms.core.permission.PermissionRepository;
+import kr.co.itid.cms.service.auth.PermissionCacheService;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
 import kr.co.itid.cms.service.auth.PermissionResolverService;
 import kr.co.itid.cms.service.auth.model.MenuPermissionData;
 import kr.co.itid.cms.service.auth.model.PermissionEntry;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,8 +20,6 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static kr.co.itid.cms.constanrt.PermissionConstants.*;
-import static kr.co.itid.cms.constanrt.RedisConstants.PERMISSION_KEY_PREFIX;
-import static kr.co.itid.cms.constanrt.RedisConstants.PERMISSION_TTL;
 
 @Service("permissionResolverService")
 @RequiredArgsConstructor
@@ -28,7 +27,7 @@ public class PermissionResolverServiceImpl extends EgovAbstractServiceImpl imple
 
     private final MenuRepository menuRepository;
     private final PermissionRepository permissionRepository;
-    private final RedisTemplate<String, MenuPermissionData> redisTemplate;
+    private final PermissionCacheService permissionCacheService;
 
     @Override
     @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
@@ -48,29 +47,166 @@ public class PermissionResolverServiceImpl extends EgovAbstractServiceImpl imple
     }
 
     private MenuPermissionData getOrBuildPermissionData(Long menuId) throws Exception {
-        String redisKey = getCacheKey(menuId);
+        // 같은 요청 안에서는 한 번만 해석
+        return PermissionRequestContext.permissionData(menuId, () -> loadPermissionData(menuId));
+    }
+
+    private MenuPermissionData loadPermissionData(Long menuId) throws Exception {
         MenuPermissionData cached;
 
         try {
-            cached = redisTemplate.opsForValue().get(redisKey);
+            // L1(로컬) → L2(Redis)
+            cached = permissionCacheService.get(menuId);
         } catch (Exception e) {
             throw processException("Fail to read permission cache", e);
         }
 
         if (cached == null) {
             try {
-                cached = buildMenuPermission(menuId);
-                redisTemplate.opsForValue().set(redisKey, cached, PERMISSION_TTL);
+                // 메뉴 단위 single-flight 재구성 (재구성 중에는 stale 값 응답)
+                cached = permissionCacheService.rebuild(menuId, () -> buildMenuPermission(menuId));
             } catch (Exception e) {
                 throw processException("Fail to build permission cache", e);
             }
-        } else {
-            redisTemplate.expire(redisKey, PERMISSION_TTL);
         }
 
         return cached;
     }
 
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public int precomputeSubtree(Long menuId) throws Exception {
+        // 1) 기준 메뉴 + 하위 메뉴 (pathId 정렬 → 부모가 항상 먼저)
+        final Menu base;
+        final List<Menu> descendants;
+        try {
+            base = menuRepository.findById(menuId)
+                    .orElseThrow(() -> new NoSuchElementException("Menu not found"));
+            descendants = menuRepository.findAllDescendantsByPathId(base.getPathId());
+        } catch (Exception e) {
+            throw processException("Fail to get menu subtree", e);
+        }
+
+        // 2) 조상 경로 + 하위 메뉴 전체 권한 한 번에 조회
+        final List<Long> ancestors = parsePath(base.getPathId());
+        final Set<Long> allIds = new LinkedHashSet<>(ancestors);
+        for (Menu m : descendants) {
+            allIds.add(m.getId());
+        }
+
+        final List<Permission> allPermissions;
+        try {
+            allPermissions = permissionRepository.findAllByMenuIds(new ArrayList<>(allIds));
+        } catch (Exception e) {
+            throw processException("Fail to get permission list", e);
+        }
+
+        Map<Long, List<Permission>> byMenuId = new HashMap<>(allIds.size() * 2);
+        for (Permission p : allPermissions) {
+            byMenuId.computeIfAbsent(p.getMenuId(), k -> new ArrayList<>()).add(p);
+        }
+
+        // 3) 조상 체인 (루트 → 기준 메뉴)
+        Chain chain = null;
+        for (Long id : ancestors) {
+            chain = chainOf(chain, byMenuId.get(id));
+        }
+
+        // 4) 하위 메뉴: 부모 체인을 그대로 이어 붙임 (조상 계산 재사용)
+        final Map<String, Chain> chainByPath = new HashMap<>(descendants.size() * 2 + 1);
+        chainByPath.put(base.getPathId(), chain);
+
+        final Map<Long, MenuPermissionData> result = new LinkedHashMap<>(descendants.size() * 2 + 2);
+        putIfValid(result, menuId, chain);
+
+        for (Menu m : descendants) {
+            String pathId = m.getPathId();
+            Chain parent = chainByPath.get(pathId.substring(0, pathId.lastIndexOf('.')));
+            if (parent == null) {
+                // 경로가 끊긴 메뉴는 요청 시 개별 재구성
+                continue;
+            }
+            Chain own = chainOf(parent, byMenuId.get(m.getId()));
+            chainByPath.put(pathId, own);
+            putIfValid(result, m.getId(), own);
+        }
+
+        // 5) 파이프라인으로 일괄 저장
+        try {
+            permissionCacheService.putAll(result);
+        } catch (Exception e) {
+            throw processException("Fail to store permission cache", e);
+        }
+        return result.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public Map<Long, List<PermissionEntry>> getOwnEntries(List<Long> menuIds) throws Exception {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<Permission> allPermissions;
+        try {
+            allPermissions = permissionRepository.findAllByMenuIds(menuIds);
+        } catch (Exception e) {
+            throw processException("Fail to get permission list", e);
+        }
+
+        Map<Long, List<Permission>> byMenuId = new HashMap<>(menuIds.size() * 2);
+        for (Permission p : allPermissions) {
+            byMenuId.computeIfAbsent(p.getMenuId(), k -> new ArrayList<>()).add(p);
+        }
+
+        Map<Long, List<PermissionEntry>> result = new HashMap<>(byMenuId.size() * 2);
+        try {
+            for (Map.Entry<Long, List<Permission>> e : byMenuId.entrySet()) {
+                result.put(e.getKey(), toOrderedEntries(e.getValue()));
+            }
+        } catch (RuntimeException e) {
+            throw processException("Permission value format error", e);
+        }
+        return result;
+    }
+
+    private void putIfValid(Map<Long, MenuPermissionData> result, Long menuId, Chain chain) {
+        if (chain == null || !chain.valid()) {
+            // 잘못된 권한 행이 있는 경로는 요청 시 재구성 (예외도 그때 노출)
+            return;
+        }
+        MenuPermissionData data = new MenuPermissionData();
+        data.setMenuId(menuId);
+        data.setLastUpdate(new Date());
+
+        // 가까운 메뉴부터 (buildMenuPermission과 동일한 순서)
+        int order = 0;
+        for (Chain c = chain; c != null; c = c.parent()) {
+            for (PermissionEntry pe : c.own()) {
+                data.addPermissionEntry(order++, pe.getUserIdx(), pe.getLevel(), pe.getPermissions());
+            }
+        }
+        result.put(menuId, data);
+    }
+
+    private Chain chainOf(Chain parent, List<Permission> perms) {
+        boolean parentValid = parent == null || parent.valid();
+        if (perms == null || perms.isEmpty()) {
+            return new Chain(List.of(), parent, parentValid);
+        }
+        try {
+            return new Chain(toOrderedEntries(perms), parent, parentValid);
+        } catch (RuntimeException e) {
+            return new Chain(List.of(), parent, false);
+        }
+    }
+
+    /**
+     * 메뉴 경로 체인 (자기 자신의 정렬된 엔트리 + 부모 체인)
+     * 하위 메뉴끼리 조상 체인을 공유한다.
+     */
+    private record Chain(List<PermissionEntry> own, Chain parent, boolean valid) {}
+
     private MenuPermissionData buildMenuPermission(Long menuId) throws Exception {
         MenuPermissionData permissionData = new MenuPermissionData();
         permissionData.setMenuId(menuId);
@@ -110,49 +246,59 @@ public class PermissionResolverServiceImpl extends EgovAbstractServiceImpl imple
             byDistance.computeIfAbsent(d, k -> new ArrayList<>()).add(p);
         }
 
-        // 같은 거리 안 정렬: sort -> pk
-        Comparator<Permission> inGroup = Comparator
-                .comparing((Permission p) -> Optional.ofNullable(p.getSort()).orElse(9999))
-                .thenComparing(p -> Optional.ofNullable(p.getIdx()).orElse(Long.MAX_VALUE));
-
         // 5) 최종 삽입 순서: 거리(가까운→먼) 안에서 user(id) 먼저, 그다음 level
         int order = 0; // 0부터 1씩 증가
         for (Map.Entry<Integer, List<Permission>> bucket : byDistance.entrySet()) {
-            List<Permission> perms = bucket.getValue();
-
-            List<Permission> userPerms = perms.stream()
-                    .filter(p -> "id".equalsIgnoreCase(p.getType()))
-                    .sorted(inGroup)
-                    .collect(Collectors.toList());
-
-            List<Permission> levelPerms = perms.stream()
-                    .filter(p -> "level".equalsIgnoreCase(p.getType()))
-                    .sorted(inGroup)
-                    .collect(Collectors.toList());
-
-            // user(idx) 먼저
-            for (Permission perm : userPerms) {
-                final Set<String> permissionSet = new HashSet<>(extractAllowedPermissions(perm));
-                final Long idx = Long.parseLong(
-                        Optional.ofNullable(perm.getValue())
-                                .orElseThrow(() -> new IllegalArgumentException("Login idx is null"))
-                );
-                permissionData.addPermissionEntry(order++, idx, null, permissionSet);
-            }
-            // level 다음
-            for (Permission perm : levelPerms) {
-                final Set<String> permissionSet = new HashSet<>(extractAllowedPermissions(perm));
-                final Integer level = Integer.parseInt(
-                        Optional.ofNullable(perm.getValue())
-                                .orElseThrow(() -> new IllegalArgumentException("Login level is null"))
-                );
-                permissionData.addPermissionEntry(order++, null, level, permissionSet);
+            for (PermissionEntry pe : toOrderedEntries(bucket.getValue())) {
+                permissionData.addPermissionEntry(order++, pe.getUserIdx(), pe.getLevel(), pe.getPermissions());
             }
         }
 
         return permissionData;
     }
 
+    /**
+     * 같은 메뉴(거리)의 권한 행을 평가 순서대로 변환
+     * user(id) 먼저, 그다음 level / 각각 sort → pk 순
+     */
+    private List<PermissionEntry> toOrderedEntries(List<Permission> perms) {
+        // 같은 거리 안 정렬: sort -> pk
+        Comparator<Permission> inGroup = Comparator
+                .comparing((Permission p) -> Optional.ofNullable(p.getSort()).orElse(9999))
+                .thenComparing(p -> Optional.ofNullable(p.getIdx()).orElse(Long.MAX_VALUE));
+
+        List<Permission> userPerms = perms.stream()
+                .filter(p -> "id".equalsIgnoreCase(p.getType()))
+                .sorted(inGroup)
+                .collect(Collectors.toList());
+
+        List<Permission> levelPerms = perms.stream()
+                .filter(p -> "level".equalsIgnoreCase(p.getType()))
+                .sorted(inGroup)
+                .collect(Collectors.toList());
+
+        List<PermissionEntry> entries = new ArrayList<>(userPerms.size() + levelPerms.size());
+        // user(idx) 먼저
+        for (Permission perm : userPerms) {
+            final Set<String> permissionSet = new HashSet<>(extractAllowedPermissions(perm));
+            final Long idx = Long.parseLong(
+                    Optional.ofNullable(perm.getValue())
+                            .orElseThrow(() -> new IllegalArgumentException("Login idx is null"))
+            );
+            entries.add(new PermissionEntry(idx, null, permissionSet));
+        }
+        // level 다음
+        for (Permission perm : levelPerms) {
+            final Set<String> permissionSet = new HashSet<>(extractAllowedPermissions(perm));
+            final Integer level = Integer.parseInt(
+                    Optional.ofNullable(perm.getValue())
+                            .orElseThrow(() -> new IllegalArgumentException("Login level is null"))
+            );
+            entries.add(new PermissionEntry(null, level, permissionSet));
+        }
+        return entries;
+    }
+
     private List<Long> findMenuHierarchy(Long menuId) throws Exception {
         String path;
         try {
@@ -163,6 +309,10 @@ public class PermissionResolverServiceImpl extends EgovAbstractServiceImpl imple
             throw processException("Fail to get menu path", e);
         }
 
+        return parsePath(path);
+    }
+
+    private List<Long> parsePath(String path) throws Exception {
         List<Long> hierarchy = new ArrayList<>();
         try {
             for (String id : path.split("\\.")) {
@@ -189,8 +339,4 @@ public class PermissionResolverServiceImpl extends EgovAbstractServiceImpl imple
 
         return permissions;
     }
-
-    private String getCacheKey(Long menuId) {
-        return PERMISSION_KEY_PREFIX + menuId;
-    }
-}
\ No newline at end of file
+}
@@ -9,9 +9,11 @@ import kr.co.itid.cms.dto.auth.permission.response.PermissionChainResponse;
 import kr.co.itid.cms.entity.cms.core.permission.Permission;
 import kr.co.itid.cms.enums.Action;
 import kr.co.itid.cms.repository.cms.core.permission.PermissionRepository;
+import kr.co.itid.cms.service.auth.PermissionCacheService;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
 import kr.co.itid.cms.service.auth.PermissionResolverService;
 import kr.co.itid.cms.service.auth.PermissionService;
-import kr.co.itid.cms.service.auth.model.MenuPermissionData;
+import kr.co.itid.cms.service.auth.PermissionWarmupService;
 import kr.co.itid.cms.service.auth.model.PermissionEntry;
 import kr.co.itid.cms.service.cms.core.board.DynamicBoardService;
 import kr.co.itid.cms.service.cms.core.member.MemberService;
@@ -22,7 +24,6 @@ import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +34,6 @@ import java.util.stream.IntStream;
 import static java.util.stream.Collectors.toList;
 import static kr.co.itid.cms.constanrt.LevelConstants.LEVEL_NAME_MAP;
 import static kr.co.itid.cms.constanrt.PermissionConstants.*;
-import static kr.co.itid.cms.constanrt.RedisConstants.PERMISSION_KEY_PREFIX;
 import static kr.co.itid.cms.util.PermissionKeyUtil.*;
 
 @Service("permService")
@@ -48,8 +48,9 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
     private final MenuQueryService menuQueryService;
     private final PermissionRepository permissionRepository;
 
-    // Resolver와 동일한 캐시 스키마 사용
-    private final RedisTemplate<String, MenuPermissionData> redisTemplate;
+    // Resolver와 동일한 캐시(L1/L2) 사용
+    private final PermissionCacheService permissionCacheService;
+    private final PermissionWarmupService permissionWarmupService;
 
     /* ================= 런타임 권한 ================= */
 
@@ -57,64 +58,95 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
     @Override
     @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
     public boolean hasAccess(String permission, Long postId) throws Exception {
-        return hasAccessInternal(permission, postId);
+        return hasAccessInternal(permission, postId, false);
+    }
+
+    // 작성자 조건부 쓰기를 하는 호출부 전용 (작성자 확인을 쓰기 쿼리로 위임)
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public boolean hasAccessOwnedWrite(String permission, Long postId) throws Exception {
+        return hasAccessInternal(permission, postId, true);
     }
 
     // 기존 메서드는 내부 공통 로직 호출로 변경(동작 동일)
     @Override
     @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
     public boolean hasAccess(String permission) throws Exception {
-        return hasAccessInternal(permission, null);
+        return hasAccessInternal(permission, null, false);
     }
 
     // 내부 공통 로직
-    private boolean hasAccessInternal(String permission, Long postId) throws Exception {
+    private boolean hasAccessInternal(String permission, Long postId, boolean ownedWrite) throws Exception {
         try {
             JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
 
-            loggingUtil.logAttempt(Action.RETRIEVE,
-                    "Check access: user=" + user.userId()
-                            + ", menuId=" + user.menuId()
-                            + ", perm=" + permission
-                            + (postId != null ? (", postId=" + postId) : ""));
+            // 같은 요청에서 이미 판정한 조합이면 재사용
+            String decisionKey = PermissionRequestContext.key(
+                    ownedWrite ? "ownedWrite" : "access", user.userIdx(), user.userLevel(), user.menuId(), permission, postId);
+            return PermissionRequestContext.decision(decisionKey, () -> decideAccess(user, permission, postId, ownedWrite));
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "Access check error: " + e.getMessage());
+            throw processException("권한 확인 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            // 1) 관리자면 바로 허용
-            if (user.isAdmin()) {
-                loggingUtil.logSuccess(Action.RETRIEVE, "Admin override");
-                return true;
-            }
+    private boolean decideAccess(JwtAuthenticatedUser user, String permission, Long postId, boolean ownedWrite) throws Exception {
+        loggingUtil.logAttempt(Action.RETRIEVE,
+                "Check access: user=" + user.userId()
+                        + ", menuId=" + user.menuId()
+                        + ", perm=" + permission
+                        + (postId != null ? (", postId=" + postId) : ""));
 
-            // 2) 메뉴 권한(체인) 충족 여부
-            boolean granted = permissionResolverService.hasPermission(user, permission);
-            if (!granted) {
-                loggingUtil.logFail(Action.RETRIEVE, "Denied (menu permission)");
-                return false;
-            }
+        // 1) 관리자면 바로 허용
+        if (user.isAdmin()) {
+            loggingUtil.logSuccess(Action.RETRIEVE, "Admin override");
+            return true;
+        }
 
-            // 3) 글 단위 권한: MODIFY/REMOVE는 본인 글만 허용 (postId가 있을 때만)
-            if (postId != null && ("MODIFY".equalsIgnoreCase(permission) || "REMOVE".equalsIgnoreCase(permission))) {
-                boolean own = isOwner(user, postId);
-                if (!own) {
-                    loggingUtil.logFail(Action.RETRIEVE, "Denied (not owner)");
-                    return false;
-                }
-                loggingUtil.logSuccess(Action.RETRIEVE, "Granted (owner)");
+        // 2) 메뉴 권한(체인) 충족 여부
+        boolean granted = permissionResolverService.hasPermission(user, permission);
+        if (!granted) {
+            loggingUtil.logFail(Action.RETRIEVE, "Denied (menu permission)");
+            return false;
+        }
+
+        // 3) 글 단위 권한: MODIFY/REMOVE는 본인 글만 허용 (postId가 있을 때만)
+        if (postId != null && ("MODIFY".equalsIgnoreCase(permission) || "REMOVE".equalsIgnoreCase(permission))) {
+            // 작성자 조건부 쓰기 호출부이고 요청 처리 중이면 소유자 조건을 UPDATE/DELETE 문에 결합
+            // (영향 행 수로 403/404 판정)
+            if (ownedWrite && PermissionRequestContext.requireOwnership(postId)) {
+                loggingUtil.logSuccess(Action.RETRIEVE, "Granted (owner check deferred to write)");
                 return true;
             }
-
-            loggingUtil.logSuccess(Action.RETRIEVE, "Granted");
+            boolean own = isOwner(user, postId);
+            if (!own) {
+                loggingUtil.logFail(Action.RETRIEVE, "Denied (not owner)");
+                return false;
+            }
+            loggingUtil.logSuccess(Action.RETRIEVE, "Granted (owner)");
             return true;
-
-        } catch (Exception e) {
-            loggingUtil.logFail(Action.RETRIEVE, "Access check error: " + e.getMessage());
-            throw processException("권한 확인 중 오류가 발생했습니다.", e);
         }
+
+        loggingUtil.logSuccess(Action.RETRIEVE, "Granted");
+        return true;
     }
 
     /**
      * 소유자 확인 훅 메서드.
      */
     protected boolean isOwner(JwtAuthenticatedUser user, Long postId) {
+        try {
+            // 같은 요청 안에서는 한 번만 조회
+            return PermissionRequestContext.decision(
+                    PermissionRequestContext.key("owner", user.menuId(), user.userId(), postId),
+                    () -> checkOwner(user, postId));
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "Owner check failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean checkOwner(JwtAuthenticatedUser user, Long postId) {
         try {
             String regId = dynamicBoardService.getRegIdByBoard(postId);
             if (regId == null) return false;
@@ -132,6 +164,13 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
     @Override
     @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
     public UserPermissionResponse getPermissionByMenu(JwtAuthenticatedUser user) throws Exception {
+        // 같은 요청에서 이미 해석했으면 재사용
+        return PermissionRequestContext.decision(
+                PermissionRequestContext.key("menu", user.userIdx(), user.userLevel(), user.menuId()),
+                () -> resolvePermissionByMenu(user));
+    }
+
+    private UserPermissionResponse resolvePermissionByMenu(JwtAuthenticatedUser user) throws Exception {
         final Long menuId = user.menuId();
         loggingUtil.logAttempt(Action.RETRIEVE, "Resolve permissions: user=" + user.userId() + ", menuId=" + menuId);
         try {
@@ -272,6 +311,8 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
 
             // 캐시 무효화 (하위 메뉴 전파 무효화) - MenuService 사용
             invalidateMenuPermission(menuId);
+            // 커밋 후 하위 트리 권한 사전 계산 (첫 요청 캐시 미스 방지)
+            permissionWarmupService.requestWarmup(menuId);
 
             loggingUtil.logSuccess(Action.UPDATE,
                     "Upsert success: menuId=" + menuId + ", saved=" + normalized.size() + ", deleted=" + toDelete.size());
@@ -332,12 +373,8 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
                 return;
             }
 
-            // 5) 키 변환 후 일괄 삭제 (대량이면 청크)
-            final List<String> keys = targets.stream()
-                    .map(id -> PERMISSION_KEY_PREFIX + id)
-                    .toList();
-
-            final long deleted = deleteKeysInChunks(keys, 1000);
+            // 5) 일괄 삭제 (대량이면 청크) + 전 노드 L1 무효화 전파
+            final long deleted = permissionCacheService.evict(targets);
 
             loggingUtil.logSuccess(
                     Action.UPDATE,
@@ -353,18 +390,6 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
         }
     }
 
-    /** Redis DEL을 청크 단위로 수행 (대량 키 삭제 시 안전) */
-    private long deleteKeysInChunks(List<String> keys, int chunkSize) {
-        if (keys == null || keys.isEmpty()) return 0L;
-        long total = 0L;
-        for (int i = 0; i < keys.size(); i += chunkSize) {
-            final List<String> part = keys.subList(i, Math.min(i + chunkSize, keys.size()));
-            final Long deleted = redisTemplate.delete(part);
-            total += (deleted == null ? 0L : deleted);
-        }
-        return total;
-    }
-
     /* ================== 매핑/유틸 ================== */
 
     /**
@@ -568,13 +593,14 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
     /* === 캐시 무효화 (MenuService 사용으로 도메인 분리) === */
     private void invalidateMenuPermission(Long menuId) {
         try {
-            // 1) 자기 자신 키 삭제
-            String selfKey = PERMISSION_KEY_PREFIX + menuId;
-            redisTemplate.delete(selfKey);
+            // 1) 자기 자신
+            final List<Long> targets = new ArrayList<>();
+            targets.add(menuId);
 
             // 2) MenuService를 통해 자신의 pathId 조회 (도메인 분리)
             String selfPath = menuQueryService.getPathIdById(menuId);
             if (selfPath == null || selfPath.isBlank()) {
+                permissionCacheService.evict(targets);
                 loggingUtil.logFail(Action.UPDATE, "Cache invalidate: pathId not found for menuId=" + menuId);
                 return;
             }
@@ -583,25 +609,19 @@ public class PermissionServiceImpl extends EgovAbstractServiceImpl implements Pe
 
             // 3) MenuService를 통해 후손 menuId들 조회 (도메인 분리)
             List<Long> descendants = menuQueryService.getDescendantIdsByPathPrefix(prefix);
-            if (descendants.isEmpty()) {
-                loggingUtil.logSuccess(Action.UPDATE, "Cache invalidate: no descendants for menuId=" + menuId);
-                return;
-            }
+            targets.addAll(descendants);
 
-            // 4) 후손 키들 일괄 삭제
-            List<String> keys = descendants.stream()
-                    .map(id -> PERMISSION_KEY_PREFIX + id)
-                    .collect(Collectors.toList());
-            redisTemplate.delete(keys);
+            // 4) 자신 + 후손 일괄 삭제 (L1/L2, 전 노드 전파)
+            long deleted = permissionCacheService.evict(targets);
 
             loggingUtil.logSuccess(
                     Action.UPDATE,
                     "Cache invalidate success: menuId=" + menuId +
                             ", descendants=" + descendants.size() +
-                            ", deletedKeys=" + (keys.size() + 1)
+                            ", deletedKeys=" + deleted
             );
         } catch (Exception e) {
             loggingUtil.logFail(Action.UPDATE, "Cache invalidate failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package kr.co.itid.cms.service.auth.impl;
+
+import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.service.auth.PermissionResolverService;
+import kr.co.itid.cms.service.auth.PermissionWarmupService;
+import kr.co.itid.cms.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service("permissionWarmupService")
+@RequiredArgsConstructor
+public class PermissionWarmupServiceImpl extends EgovAbstractServiceImpl implements PermissionWarmupService {
+
+    private final PermissionResolverService permissionResolverService;
+    private final LoggingUtil loggingUtil;
+
+    // 사전 계산은 순차 실행 (DB 부하 분산)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "perm-warmup");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 대기 중인 메뉴 (중복 요청 병합)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void requestWarmup(Long menuId) {
+        if (menuId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋된 권한으로 계산해야 하므로 커밋 이후 실행
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(menuId);
+                }
+            });
+        } else {
+            submit(menuId);
+        }
+    }
+
+    private void submit(Long menuId) {
+        if (!pending.add(menuId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(menuId));
+        } catch (RejectedExecutionException e) {
+            pending.remove(menuId);
+        }
+    }
+
+    private void run(Long menuId) {
+        // 실행 직전에 해제 → 계산 중 들어온 변경은 다음 회차로 예약
+        pending.remove(menuId);
+        loggingUtil.logAttempt(Action.UPDATE, "Warm up permission cache: menuId=" + menuId);
+        try {
+            int count = permissionResolverService.precomputeSubtree(menuId);
+            loggingUtil.logSuccess(Action.UPDATE, "Permission cache warmed: menuId=" + menuId + ", menus=" + count);
+        } catch (Exception e) {
+            // 실패 시 요청 시점 재구성으로 대체되므로 전파하지 않음
+            loggingUtil.logFail(Action.UPDATE, "Permission warmup failed: menuId=" + menuId + ", error=" + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
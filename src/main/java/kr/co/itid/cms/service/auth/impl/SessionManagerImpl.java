@@ -1,5 +1,7 @@
 package kr.co.itid.cms.service.auth.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import kr.co.itid.cms.config.common.redis.RedisHealthChecker;
 import kr.co.itid.cms.config.security.model.JwtProperties;
 import kr.co.itid.cms.config.security.model.SessionData;
@@ -10,18 +12,34 @@ import kr.co.itid.cms.util.LoggingUtil;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static kr.co.itid.cms.constanrt.RedisConstants.SESSION_KEY_PREFIX;
+import static kr.co.itid.cms.constanrt.RedisConstants.SESSION_REVOKE_CHANNEL;
 
 /**
  * Redis 기반 세션 관리 서비스 구현체 (eGov 스타일 로깅/예외 통일)
+ *
+ * - 조회 경로 앞단에 노드 로컬 near-cache(크기/TTL 제한)를 둔다.
+ * - 세션 삭제 시 sid를 Pub/Sub 채널로 전파하여 모든 노드의 near-cache에서 즉시 제거한다.
+ * - 철회된 sid는 노드 로컬에 잠시 기록해 두어, 철회 이전에 시작된 조회/재발급 결과가 다시 캐시되지 않게 한다.
  */
 @Service("sessionManager")
 @RequiredArgsConstructor
@@ -31,8 +49,55 @@ public class SessionManagerImpl extends EgovAbstractServiceImpl implements Sessi
     private final RedisTemplate<String, SessionData> redisTemplate;
     private final RedisHealthChecker redisHealthChecker;
     private final JwtProperties jwtProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
     private final LoggingUtil loggingUtil;
 
+    // 철회 기록 최소 보관 시간 (진행 중이던 조회/재발급이 끝나기에 충분한 시간)
+    private static final Duration MIN_REVOKED_TTL = Duration.ofSeconds(60);
+
+    // 노드 로컬 세션 캐시 (sid → SessionData)
+    private Cache<String, SessionData> nearCache;
+    // 노드 로컬 철회 기록 (sid)
+    private Cache<String, Boolean> revokedSids;
+
+    /**
+     * 세션 조회 + TTL 연장을 한 번에 수행하는 스크립트 (GETEX 미지원 Redis 버전 호환)
+     * KEYS[1]=세션 키, ARGV[1]=TTL(초)
+     */
+    private static final RedisScript<SessionData> GET_AND_EXPIRE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if v then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return v",
+            SessionData.class);
+
+    @PostConstruct
+    void init() {
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getSessionNearCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtProperties.getSessionNearCacheTtlSeconds()))
+                .build();
+
+        Duration nearCacheTtl = Duration.ofSeconds(jwtProperties.getSessionNearCacheTtlSeconds());
+        this.revokedSids = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getSessionNearCacheMaxSize())
+                .expireAfterWrite(nearCacheTtl.compareTo(MIN_REVOKED_TTL) > 0 ? nearCacheTtl : MIN_REVOKED_TTL)
+                .build();
+
+        // 다른 노드에서 철회된 세션을 near-cache에서 제거
+        listenerContainer.addMessageListener(this::onSessionRevoked, new ChannelTopic(SESSION_REVOKE_CHANNEL));
+    }
+
+    private void onSessionRevoked(Message message, byte[] pattern) {
+        revokeLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /** 철회 기록 후 near-cache 제거 (기록을 먼저 남겨야 동시 조회가 다시 캐시하지 않음) */
+    private void revokeLocally(String sid) {
+        revokedSids.put(sid, Boolean.TRUE);
+        nearCache.invalidate(sid);
+    }
+
     @Override
     public String createSession(Member member, String hostname) throws Exception {
         final String sid = UUID.randomUUID().toString();
@@ -79,7 +144,7 @@ public class SessionManagerImpl extends EgovAbstractServiceImpl implements Sessi
                 return Optional.empty();
             }
         } catch (Exception e) {
-            redisHealthChecker.forceUpdateHealthStatus(false);
+            redisHealthChecker.reportFailure();
             loggingUtil.logFail(Action.RETRIEVE, "[Session] 세션 조회 실패: sid=" + sid + ", error=" + e.getMessage());
             return Optional.empty();
         }
@@ -90,15 +155,20 @@ public class SessionManagerImpl extends EgovAbstractServiceImpl implements Sessi
         final String key = SESSION_KEY_PREFIX + sid;
         loggingUtil.logAttempt(Action.DELETE, "[Session] 세션 삭제 시도: sid=" + sid);
 
+        revokeLocally(sid);
+
         try {
             Boolean deleted = redisTemplate.delete(key);
+            // 즉시 철회: 모든 노드의 near-cache에서 제거
+            stringRedisTemplate.convertAndSend(SESSION_REVOKE_CHANNEL, sid);
+
             if (Boolean.TRUE.equals(deleted)) {
                 loggingUtil.logSuccess(Action.DELETE, "[Session] 세션 삭제 완료: sid=" + sid);
             } else {
                 loggingUtil.logFail(Action.DELETE, "[Session] 삭제할 세션 없음: sid=" + sid);
             }
         } catch (Exception e) {
-            redisHealthChecker.forceUpdateHealthStatus(false);
+            redisHealthChecker.reportFailure();
             loggingUtil.logFail(Action.DELETE, "[Session] 세션 삭제 실패: sid=" + sid + ", error=" + e.getMessage());
             throw processException("세션 삭제 중 오류가 발생했습니다.", e);
         }
@@ -119,7 +189,7 @@ public class SessionManagerImpl extends EgovAbstractServiceImpl implements Sessi
             loggingUtil.logSuccess(Action.RETRIEVE, "[Session] 세션 TTL 조회 성공: sid=" + sid + ", ttlSec=" + seconds);
             return seconds;
         } catch (Exception e) {
-            redisHealthChecker.forceUpdateHealthStatus(false);
+            redisHealthChecker.reportFailure();
             loggingUtil.logFail(Action.RETRIEVE, "[Session] 세션 TTL 조회 실패: sid=" + sid + ", error=" + e.getMessage());
             return -1;
         }
@@ -152,15 +222,76 @@ public class SessionManagerImpl extends EgovAbstractServiceImpl implements Sessi
 
             loggingUtil.logSuccess(Action.UPDATE, "[Session] 세션 touch 완료: sid=" + sid + ", ttlSec=" + jwtProperties.getSessionTtlSeconds());
         } catch (Exception e) {
-            redisHealthChecker.forceUpdateHealthStatus(false);
+            redisHealthChecker.reportFailure();
             loggingUtil.logFail(Action.UPDATE, "[Session] 세션 touch 실패: sid=" + sid + ", error=" + e.getMessage());
             throw processException("세션 갱신 중 오류가 발생했습니다.", e);
         }
     }
 
+    @Override
+    public Optional<SessionData> getAndTouchSession(String sid) {
+        if (!redisHealthChecker.isCachedRedisHealthy()) {
+            // 장애 시 조회 생략
+            return Optional.empty();
+        }
+
+        // near-cache 적중 시 Redis 왕복 생략 (TTL 슬라이딩은 캐시 만료 후 다음 조회에서 반영)
+        SessionData cached = nearCache.getIfPresent(sid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final String key = SESSION_KEY_PREFIX + sid;
+        loggingUtil.logAttempt(Action.RETRIEVE, "[Session] 세션 조회+touch 시도: sid=" + sid);
+
+        try {
+            final long ttlSeconds = jwtProperties.getSessionTtlSeconds();
+
+            @SuppressWarnings("unchecked")
+            RedisSerializer<SessionData> valueSerializer = (RedisSerializer<SessionData>) redisTemplate.getValueSerializer();
+            SessionData data = redisTemplate.execute(
+                    GET_AND_EXPIRE_SCRIPT,
+                    StringRedisSerializer.UTF_8,
+                    valueSerializer,
+                    List.of(key),
+                    String.valueOf(ttlSeconds));
+
+            if (data == null) {
+                loggingUtil.logFail(Action.RETRIEVE, "[Session] 세션 조회 결과 없음: sid=" + sid);
+                return Optional.empty();
+            }
+
+            // lastActivity는 갱신 주기가 지난 경우에만 재기록 (XX: 그 사이 삭제된 세션은 되살리지 않음)
+            final long now = System.currentTimeMillis();
+            if (now - data.getLastActivity() >= jwtProperties.getSessionTouchWindowSeconds() * 1000L) {
+                data.setLastActivity(now);
+                redisTemplate.opsForValue().setIfPresent(key, data, Duration.ofSeconds(ttlSeconds));
+            }
+            nearCache.put(sid, data);
+            // Redis 조회 이후 철회된 세션이면 방금 넣은 값을 되돌림 (철회 기록이 invalidate보다 먼저 남으므로 put 뒤에 확인)
+            if (isRevoked(sid)) {
+                nearCache.invalidate(sid);
+                loggingUtil.logFail(Action.RETRIEVE, "[Session] 조회 중 철회된 세션: sid=" + sid);
+                return Optional.empty();
+            }
+
+            loggingUtil.logSuccess(Action.RETRIEVE, "[Session] 세션 조회+touch 완료: sid=" + sid + ", ttlSec=" + ttlSeconds);
+            return Optional.of(data);
+        } catch (Exception e) {
+            redisHealthChecker.reportFailure();
+            loggingUtil.logFail(Action.RETRIEVE, "[Session] 세션 조회+touch 실패: sid=" + sid + ", error=" + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String sid) {
+        return revokedSids.getIfPresent(sid) != null;
+    }
+
     @Override
     public boolean isRedisHealthy() {
-        // 상태 조회는 단순 위임 (로깅 불필요)
-        return redisHealthChecker.isRedisHealthy();
+        // 백그라운드 프로브가 갱신한 캐시 상태만 조회 (로깅 불필요)
+        return redisHealthChecker.isCachedRedisHealthy();
     }
 }
\ No newline at end of file
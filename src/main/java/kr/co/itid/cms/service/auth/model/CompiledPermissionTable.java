@@ -0,0 +1,224 @@
+package kr.co.itid.cms.service.auth.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 권한 체인을 컴파일한 불변 구조
+ *
+ * MenuPermissionData의 정렬된 엔트리 목록을 한 번 훑어 다음을 미리 계산한다.
+ * - 사용자(userIdx) 오버라이드: long → 비트마스크 (오픈 어드레싱 원시 배열)
+ * - 등급(level): 등급 인덱스 배열 → 비트마스크
+ *
+ * 판정 규칙은 기존 MenuPermissionData와 동일하다.
+ * - hasPermission: 일치하는 사용자 엔트리 중 하나라도 권한이 있으면 true,
+ *   아니면 마지막으로 일치한 등급 엔트리의 권한 여부
+ * - effective: 가장 앞선 버킷의 일치 엔트리 (같은 버킷이면 사용자 엔트리 우선, 각각 첫 번째)
+ */
+public final class CompiledPermissionTable {
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    /** 배열로 직접 인덱싱할 최대 등급 (초과/음수 등급은 보조 테이블 사용) */
+    private static final int MAX_INDEXED_LEVEL = 255;
+
+    private static final CompiledPermissionTable EMPTY = new CompiledPermissionTable(
+            new LongSlots(0), new int[0], new int[0], new int[0], new LongSlots(0));
+
+    // 사용자 오버라이드
+    private final LongSlots users;
+
+    // 등급별 (index = level)
+    private final int[] levelLastMask;
+    private final int[] levelFirstPos;
+    private final int[] levelFirstMask;
+
+    // 인덱스 범위를 벗어난 등급
+    private final LongSlots otherLevels;
+
+    private CompiledPermissionTable(LongSlots users, int[] levelLastMask, int[] levelFirstPos,
+                                    int[] levelFirstMask, LongSlots otherLevels) {
+        this.users = users;
+        this.levelLastMask = levelLastMask;
+        this.levelFirstPos = levelFirstPos;
+        this.levelFirstMask = levelFirstMask;
+        this.otherLevels = otherLevels;
+    }
+
+    /**
+     * 정렬된 권한 맵(sort → 엔트리 목록)을 컴파일
+     */
+    public static CompiledPermissionTable compile(Map<Integer, List<PermissionEntry>> sortedPermissionMap) {
+        if (sortedPermissionMap == null || sortedPermissionMap.isEmpty()) {
+            return EMPTY;
+        }
+
+        int userCount = 0;
+        int otherLevelCount = 0;
+        int maxLevel = -1;
+        for (List<PermissionEntry> bucket : sortedPermissionMap.values()) {
+            for (PermissionEntry pe : bucket) {
+                if (pe.getUserIdx() != null) userCount++;
+                Integer level = pe.getLevel();
+                if (level != null) {
+                    if (level >= 0 && level <= MAX_INDEXED_LEVEL) {
+                        maxLevel = Math.max(maxLevel, level);
+                    } else {
+                        otherLevelCount++;
+                    }
+                }
+            }
+        }
+
+        LongSlots users = new LongSlots(userCount);
+        LongSlots otherLevels = new LongSlots(otherLevelCount);
+        int[] levelLastMask = new int[maxLevel + 1];
+        int[] levelFirstPos = new int[maxLevel + 1];
+        int[] levelFirstMask = new int[maxLevel + 1];
+        Arrays.fill(levelFirstPos, NONE);
+
+        int pos = 0;
+        for (List<PermissionEntry> bucket : sortedPermissionMap.values()) {
+            for (PermissionEntry pe : bucket) {
+                int mask = PermissionBits.toMask(pe.getPermissions());
+
+                if (pe.getUserIdx() != null) {
+                    int slot = users.slotFor(pe.getUserIdx());
+                    users.orMask[slot] |= mask;
+                    if (users.firstPos[slot] == NONE) {
+                        users.firstPos[slot] = pos;
+                        users.firstMask[slot] = mask;
+                    }
+                }
+
+                Integer level = pe.getLevel();
+                if (level != null) {
+                    if (level >= 0 && level <= MAX_INDEXED_LEVEL) {
+                        levelLastMask[level] = mask;
+                        if (levelFirstPos[level] == NONE) {
+                            levelFirstPos[level] = pos;
+                            levelFirstMask[level] = mask;
+                        }
+                    } else {
+                        int slot = otherLevels.slotFor(level);
+                        otherLevels.lastMask[slot] = mask;
+                        if (otherLevels.firstPos[slot] == NONE) {
+                            otherLevels.firstPos[slot] = pos;
+                            otherLevels.firstMask[slot] = mask;
+                        }
+                    }
+                }
+            }
+            pos++;
+        }
+
+        return new CompiledPermissionTable(users, levelLastMask, levelFirstPos, levelFirstMask, otherLevels);
+    }
+
+    /**
+     * 권한 보유 여부
+     * @param userIdx 사용자 IDX (null 허용)
+     * @param level 사용자 등급
+     * @param bit PermissionBits.bitOf(권한명)
+     */
+    public boolean hasPermission(Long userIdx, int level, int bit) {
+        if (bit == 0) return false;
+
+        if (userIdx != null) {
+            int slot = users.find(userIdx);
+            if (slot >= 0 && (users.orMask[slot] & bit) != 0) {
+                return true;
+            }
+        }
+        return (levelLastMask(level) & bit) != 0;
+    }
+
+    /**
+     * 사용자에게 적용되는 권한 엔트리
+     * 일치 항목이 없으면 빈 엔트리를 반환한다.
+     */
+    public PermissionEntry effectiveEntry(Long userIdx, int level) {
+        int userSlot = userIdx != null ? users.find(userIdx) : -1;
+        int userPos = userSlot >= 0 ? users.firstPos[userSlot] : NONE;
+        int levelPos = levelFirstPos(level);
+
+        if (userPos != NONE && userPos <= levelPos) {
+            return new PermissionEntry(userIdx, null, PermissionBits.toSet(users.firstMask[userSlot]));
+        }
+        if (levelPos != NONE) {
+            return new PermissionEntry(null, level, PermissionBits.toSet(levelFirstMask(level)));
+        }
+        return new PermissionEntry();
+    }
+
+    private int levelLastMask(int level) {
+        if (level >= 0 && level < levelLastMask.length) return levelLastMask[level];
+        int slot = otherLevels.find(level);
+        return slot >= 0 ? otherLevels.lastMask[slot] : 0;
+    }
+
+    private int levelFirstPos(int level) {
+        if (level >= 0 && level < levelFirstPos.length) return levelFirstPos[level];
+        int slot = otherLevels.find(level);
+        return slot >= 0 ? otherLevels.firstPos[slot] : NONE;
+    }
+
+    private int levelFirstMask(int level) {
+        if (level >= 0 && level < levelFirstMask.length) return levelFirstMask[level];
+        int slot = otherLevels.find(level);
+        return slot >= 0 ? otherLevels.firstMask[slot] : 0;
+    }
+
+    /**
+     * long 키 → 슬롯 (오픈 어드레싱, 선형 탐사)
+     * 컴파일 시에만 쓰기가 발생하고 이후에는 읽기 전용이다.
+     */
+    private static final class LongSlots {
+        private final long[] keys;
+        private final boolean[] used;
+        private final int bitmask;
+
+        final int[] orMask;
+        final int[] lastMask;
+        final int[] firstPos;
+        final int[] firstMask;
+
+        LongSlots(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.used = new boolean[capacity];
+            this.bitmask = capacity - 1;
+            this.orMask = new int[capacity];
+            this.lastMask = new int[capacity];
+            this.firstPos = new int[capacity];
+            this.firstMask = new int[capacity];
+            Arrays.fill(firstPos, NONE);
+        }
+
+        int find(long key) {
+            int i = hash(key) & bitmask;
+            while (used[i]) {
+                if (keys[i] == key) return i;
+                i = (i + 1) & bitmask;
+            }
+            return -1;
+        }
+
+        int slotFor(long key) {
+            int i = hash(key) & bitmask;
+            while (used[i]) {
+                if (keys[i] == key) return i;
+                i = (i + 1) & bitmask;
+            }
+            used[i] = true;
+            keys[i] = key;
+            return i;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package kr.co.itid.cms.service.auth.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serializable;
 import java.util.*;
@@ -11,10 +16,10 @@ import java.util.*;
 /**
  * 메뉴별 권한 캐시 데이터 구조
  * Redis에 저장되는 단위이며, 메뉴 ID 기준으로 캐싱됨
+ * 판정은 최초 사용 시 컴파일한 CompiledPermissionTable로 수행한다.
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class MenuPermissionData implements Serializable {
 
     private Long menuId;
@@ -27,6 +32,37 @@ public class MenuPermissionData implements Serializable {
      */
     private Map<Integer, List<PermissionEntry>> sortedPermissionMap = new TreeMap<>();
 
+    /** 컴파일된 판정 테이블 (지연 생성, 엔트리 변경 시 폐기) */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile CompiledPermissionTable compiled;
+
+    public MenuPermissionData(Long menuId, Date lastUpdate, Map<Integer, List<PermissionEntry>> sortedPermissionMap) {
+        this.menuId = menuId;
+        this.lastUpdate = lastUpdate;
+        this.sortedPermissionMap = sortedPermissionMap;
+    }
+
+    public void setSortedPermissionMap(Map<Integer, List<PermissionEntry>> sortedPermissionMap) {
+        this.sortedPermissionMap = sortedPermissionMap;
+        this.compiled = null;
+    }
+
+    /**
+     * 컴파일된 판정 테이블 반환 (최초 호출 시 생성)
+     */
+    public CompiledPermissionTable compiled() {
+        CompiledPermissionTable table = compiled;
+        if (table == null) {
+            table = CompiledPermissionTable.compile(sortedPermissionMap);
+            compiled = table;
+        }
+        return table;
+    }
+
     /**
      * 사용자 권한 확인 메서드
      * 1. userId가 일치하면 즉시 true
@@ -38,24 +74,7 @@ public class MenuPermissionData implements Serializable {
      * @return 권한이 있을 경우 true
      */
     public boolean hasPermission(Long userIdx, int level, String targetPermission) {
-        boolean levelAllowed = false;
-
-        for (Map.Entry<Integer, List<PermissionEntry>> entry : sortedPermissionMap.entrySet()) {
-            for (PermissionEntry permissionEntry : entry.getValue()) {
-                if (permissionEntry.getUserIdx() != null &&
-                        permissionEntry.getUserIdx().equals(userIdx)) {
-                    if (permissionEntry.getPermissions().contains(targetPermission)) {
-                        return true;
-                    }
-                }
-
-                if (permissionEntry.getLevel() != null && permissionEntry.getLevel() == level) {
-                    levelAllowed = permissionEntry.getPermissions().contains(targetPermission);
-                }
-            }
-        }
-
-        return levelAllowed;
+        return compiled().hasPermission(userIdx, level, PermissionBits.bitOf(targetPermission));
     }
 
     /**
@@ -64,6 +83,7 @@ public class MenuPermissionData implements Serializable {
     public void addPermissionEntry(int sort, Long userIdx, Integer level, Set<String> permissions) {
         sortedPermissionMap.computeIfAbsent(sort, k -> new ArrayList<>())
                 .add(new PermissionEntry(userIdx, level, permissions));
+        compiled = null;
     }
 
     /**
@@ -75,19 +95,6 @@ public class MenuPermissionData implements Serializable {
      * @return PermissionEntry 해당 사용자에게 적용되는 권한
      */
     public PermissionEntry getEffectivePermissionEntryForUser(JwtAuthenticatedUser user) {
-        for (Map.Entry<Integer, List<PermissionEntry>> bucket : sortedPermissionMap.entrySet()) {
-            PermissionEntry levelMatch = null;
-
-            for (PermissionEntry pe : bucket.getValue()) {
-                if (pe.getUserIdx() != null && pe.getUserIdx().equals(user.userIdx())) {
-                    return pe; // 정확매치 우선
-                }
-                if (pe.getLevel() != null && pe.getLevel().equals(user.userLevel()) && levelMatch == null) {
-                    levelMatch = pe; // 같은 거리에서 첫 레벨 매치만 기억
-                }
-            }
-            if (levelMatch != null) return levelMatch; // 가까운 거리의 레벨 매치 확정
-        }
-        return new PermissionEntry();
+        return compiled().effectiveEntry(user.userIdx(), user.userLevel());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package kr.co.itid.cms.service.auth.model;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static kr.co.itid.cms.constanrt.PermissionConstants.*;
+
+/**
+ * 권한명 ↔ 비트마스크 변환
+ * PermissionConstants의 8개 권한을 고정된 비트 위치에 매핑한다.
+ * (비트 위치는 Redis 바이너리 포맷에 저장되므로 순서를 바꾸지 말 것)
+ */
+public final class PermissionBits {
+
+    private PermissionBits() {}
+
+    private static final String[] NAMES = {VIEW, WRITE, MODIFY, REMOVE, MANAGE, ACCESS, REPLY, ADMIN};
+
+    /** 전체 권한 마스크 */
+    public static final int ALL = (1 << NAMES.length) - 1;
+
+    /**
+     * 권한명 → 비트 (알 수 없는 권한은 0)
+     */
+    public static int bitOf(String permission) {
+        if (permission == null) return 0;
+        switch (permission) {
+            case VIEW:   return 1;
+            case WRITE:  return 1 << 1;
+            case MODIFY: return 1 << 2;
+            case REMOVE: return 1 << 3;
+            case MANAGE: return 1 << 4;
+            case ACCESS: return 1 << 5;
+            case REPLY:  return 1 << 6;
+            case ADMIN:  return 1 << 7;
+            default:     return 0;
+        }
+    }
+
+    /**
+     * 권한명 집합 → 마스크
+     */
+    public static int toMask(Collection<String> permissions) {
+        int mask = 0;
+        if (permissions == null) return mask;
+        for (String p : permissions) {
+            mask |= bitOf(p);
+        }
+        return mask;
+    }
+
+    /**
+     * 마스크 → 권한명 집합
+     */
+    public static Set<String> toSet(int mask) {
+        Set<String> set = new HashSet<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                set.add(NAMES[i]);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 마스크에 해당 권한 포함 여부
+     */
+    public static boolean has(int mask, String permission) {
+        return (mask & bitOf(permission)) != 0;
+    }
+}
@@ -6,6 +6,7 @@ import kr.co.itid.cms.dto.cms.core.board.request.BoardFieldDefinitionsUpsertRequ
 import kr.co.itid.cms.dto.cms.core.board.response.BoardFieldDefinitionResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterListResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterResponse;
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -96,9 +97,20 @@ public interface BoardMasterService {
     /**
      * 특정 게시판의 실제 물리 테이블을
      * board_field_definition 정의와 동기화합니다.
+     * 온라인 ALTER가 불가능한 대형 테이블은 백그라운드 스키마 변경 작업으로 등록됩니다.
      *
      * @param boardMasterIdx 게시판 고유 ID
+     * @return 등록된 스키마 변경 작업 IDX (즉시 적용된 경우 null)
      * @throws Exception 동기화 중 오류 발생 시
      */
-    void syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception;
+    Long syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception;
+
+    /**
+     * 게시판의 스키마 변경 작업 진행 상황을 조회합니다. (최신순)
+     *
+     * @param boardMasterIdx 게시판 고유 ID
+     * @return 작업 목록
+     * @throws Exception 조회 중 오류 발생 시
+     */
+    List<BoardSchemaChangeJobResponse> getSchemaChangeJobs(Long boardMasterIdx) throws Exception;
 }
\ No newline at end of file
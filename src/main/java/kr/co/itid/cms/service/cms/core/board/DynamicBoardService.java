@@ -1,10 +1,17 @@
 package kr.co.itid.cms.service.cms.core.board;
 
+import kr.co.itid.cms.dto.cms.core.board.response.BoardImportResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
+import kr.co.itid.cms.enums.BoardExportFormat;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +38,49 @@ public interface DynamicBoardService {
      */
     Page<Map<String, Object>> getList(SearchOption option, PaginationOption pagination) throws Exception;
 
+    /**
+     * 현재 사용자의 메뉴에 연결된 게시판의 게시글 목록을 전체 건수 조회 없이 조회합니다.
+     * 다음 페이지 존재 여부(hasNext)만 제공합니다.
+     *
+     * @param option 검색 옵션 (키워드, 검색 키 등)
+     * @param pagination 페이징 옵션 (페이지 번호, 사이즈 등)
+     * @return Slice&lt;Map&lt;String, Object&gt;&gt; 게시글 목록
+     */
+    Slice<Map<String, Object>> getSlice(SearchOption option, PaginationOption pagination) throws Exception;
+
+    /**
+     * 현재 사용자의 메뉴에 연결된 게시판의 게시글 목록을 커서(keyset) 방식으로 조회합니다.
+     * 최신순(created_date, idx 내림차순) 고정이며, OFFSET 없이 커서 위치부터 탐색합니다.
+     *
+     * @param option 검색 옵션 (키워드, 검색 키 등)
+     * @param cursor 커서 옵션 (cursor, direction, size)
+     * @return CursorSliceResponse&lt;Map&lt;String, Object&gt;&gt; 게시글 목록과 이전/다음 커서
+     */
+    CursorSliceResponse<Map<String, Object>> getCursorList(SearchOption option, CursorOption cursor) throws Exception;
+
+    /**
+     * 현재 사용자의 메뉴에 연결된 게시판의 게시글 전체를 CSV 또는 NDJSON으로 스트리밍합니다.
+     * 검색 조건은 목록 조회와 동일하게 적용되며, 게시글은 idx 순으로 출력됩니다.
+     *
+     * @param option 검색 옵션 (키워드, 검색 키 등)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (호출자가 닫음)
+     * @return 출력한 게시글 수
+     */
+    long export(SearchOption option, BoardExportFormat format, OutputStream out) throws Exception;
+
+    /**
+     * 현재 사용자의 메뉴에 연결된 게시판에 CSV 또는 NDJSON 게시글을 일괄 등록합니다.
+     * 행은 게시판 스키마로 검증하고, chunkSize 단위로 나누어 묶음마다 커밋합니다.
+     * 실패한 행/묶음은 건너뛰고 결과에 행 번호와 사유를 담습니다.
+     *
+     * @param format 입력 형식
+     * @param in 입력 스트림
+     * @param chunkSize 묶음 크기 (null이면 설정값)
+     * @return BoardImportResponse 등록/실패 건수와 오류 목록
+     */
+    BoardImportResponse importRows(BoardExportFormat format, InputStream in, Integer chunkSize) throws Exception;
+
     /**
      * 게시판에서 특정 게시글을 조회합니다.
      *
@@ -0,0 +1,126 @@
+package kr.co.itid.cms.service.cms.core.board.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.itid.cms.enums.BoardExportFormat;
+import kr.co.itid.cms.repository.cms.core.board.BoardRowStreamHandler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 게시판 내보내기 출력기 (CSV / NDJSON)
+ * 행 단위로 버퍼에 쓰고 버퍼가 차면 응답 스트림으로 내보낸다. (행을 모아두지 않음)
+ * 컬럼명은 DB 컬럼명 그대로 사용한다. (가져오기와 호환)
+ */
+abstract class BoardExportWriter implements BoardRowStreamHandler {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final Writer out;
+
+    protected BoardExportWriter(OutputStream stream) {
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static BoardExportWriter of(BoardExportFormat format, OutputStream stream, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(stream);
+            case NDJSON -> new Ndjson(stream, objectMapper);
+        };
+    }
+
+    void finish() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * RFC 4180 CSV (엑셀 한글 인식을 위해 UTF-8 BOM 포함)
+     */
+    private static final class Csv extends BoardExportWriter {
+
+        Csv(OutputStream stream) {
+            super(stream);
+        }
+
+        @Override
+        public void header(List<String> columns) throws IOException {
+            out.write('\uFEFF');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) out.write(',');
+                writeCell(columns.get(i));
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) out.write(',');
+                Object v = values[i];
+                if (v == null) continue;
+                writeCell(v instanceof Timestamp ts ? ts.toLocalDateTime().toString() : v.toString());
+            }
+            out.write("\r\n");
+        }
+
+        private void writeCell(String s) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < s.length() && !quote; i++) {
+                char c = s.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                out.write(s);
+                return;
+            }
+            out.write('"');
+            out.write(s.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나
+     */
+    private static final class Ndjson extends BoardExportWriter {
+
+        private final JsonGenerator generator;
+        private String[] names;
+
+        Ndjson(OutputStream stream, ObjectMapper objectMapper) throws IOException {
+            super(stream);
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(List<String> columns) {
+            this.names = columns.toArray(new String[0]);
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < names.length; i++) {
+                generator.writeFieldName(names[i]);
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+            super.finish();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package kr.co.itid.cms.service.cms.core.board.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.itid.cms.enums.BoardExportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 가져오기 입력 파서 (CSV / NDJSON)
+ * 한 번에 한 행씩 읽으므로 파일 전체를 메모리에 올리지 않는다.
+ * 형식이 잘못된 행은 error가 채워진 Row로 반환하고 다음 행을 계속 읽는다.
+ */
+abstract class BoardImportReader {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    protected final BufferedReader in;
+    protected long rowNo;
+
+    protected BoardImportReader(InputStream stream) {
+        this.in = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    static BoardImportReader of(BoardExportFormat format, InputStream stream, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new Csv(stream);
+            case NDJSON -> new Ndjson(stream, objectMapper);
+        };
+    }
+
+    /**
+     * 다음 행 (끝이면 null)
+     */
+    abstract Row next() throws IOException;
+
+    record Row(long rowNo, Map<String, Object> data, String error) {}
+
+    /** UTF-8 BOM 제거 */
+    protected static String stripBom(String line) {
+        return line != null && !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    /**
+     * RFC 4180 CSV (첫 행은 헤더, 따옴표 안의 줄바꿈 허용, 빈 칸은 null)
+     */
+    private static final class Csv extends BoardImportReader {
+
+        private List<String> header;
+
+        Csv(InputStream stream) {
+            super(stream);
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (header == null) {
+                List<String> first = readRecord(true);
+                if (first == null) return null;
+                header = first;
+            }
+            List<String> cells;
+            do {
+                cells = readRecord(false);
+                if (cells == null) return null;
+            } while (cells.size() == 1 && cells.get(0) == null); // 빈 줄 무시
+
+            rowNo++;
+            if (cells.size() != header.size()) {
+                return new Row(rowNo, null, "컬럼 수가 헤더와 다릅니다: " + cells.size() + " / " + header.size());
+            }
+            Map<String, Object> data = new LinkedHashMap<>((int) (header.size() / 0.75f) + 1);
+            for (int i = 0; i < header.size(); i++) {
+                data.put(header.get(i), cells.get(i));
+            }
+            return new Row(rowNo, data, null);
+        }
+
+        private List<String> readRecord(boolean first) throws IOException {
+            String line = in.readLine();
+            if (line == null) return null;
+            if (first) line = stripBom(line);
+
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            int i = 0;
+            while (true) {
+                if (i >= line.length()) {
+                    if (quoted) {
+                        // 따옴표 안의 줄바꿈 → 다음 줄 이어 읽기
+                        String more = in.readLine();
+                        if (more == null) break;
+                        cell.append('\n');
+                        line = more;
+                        i = 0;
+                        continue;
+                    }
+                    break;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i < line.length() && line.charAt(i) == '"') {
+                            cell.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    cells.add(toCell(cell, wasQuoted));
+                    cell.setLength(0);
+                    wasQuoted = false;
+                } else {
+                    cell.append(c);
+                }
+            }
+            cells.add(toCell(cell, wasQuoted));
+            return cells;
+        }
+
+        private String toCell(StringBuilder cell, boolean wasQuoted) {
+            return cell.length() == 0 && !wasQuoted ? null : cell.toString();
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (빈 줄 무시)
+     */
+    private static final class Ndjson extends BoardImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(InputStream stream, ObjectMapper objectMapper) {
+            super(stream);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null) return null;
+                line = stripBom(line).trim();
+            } while (line.isEmpty());
+
+            rowNo++;
+            try {
+                return new Row(rowNo, objectMapper.readValue(line, ROW_TYPE), null);
+            } catch (JsonProcessingException e) {
+                return new Row(rowNo, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -5,12 +5,15 @@ import kr.co.itid.cms.dto.cms.core.board.request.*;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardFieldDefinitionResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterListResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.BoardMasterResponse;
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import kr.co.itid.cms.entity.cms.core.board.BoardMaster;
 import kr.co.itid.cms.enums.Action;
 import kr.co.itid.cms.mapper.cms.core.board.BoardMasterMapper;
 import kr.co.itid.cms.repository.cms.core.board.BoardMasterDao;
 import kr.co.itid.cms.repository.cms.core.board.BoardMasterRepository;
+import kr.co.itid.cms.repository.cms.core.board.BoardSchemaChangeDao;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchemaRegistry;
 import kr.co.itid.cms.service.cms.core.board.BoardMasterCacheService;
 import kr.co.itid.cms.service.cms.core.board.BoardMasterService;
 import kr.co.itid.cms.util.LoggingUtil;
@@ -37,7 +40,9 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
     private final BoardMasterRepository boardMasterRepository;
     private final BoardMasterMapper boardMapper;
     private final BoardMasterDao boardMasterDao;
+    private final BoardSchemaChangeDao boardSchemaChangeDao;
     private final BoardMasterCacheService boardMasterCacheService;
+    private final BoardSchemaRegistry boardSchemaRegistry;
     private final LoggingUtil loggingUtil;
     private final ValidationUtil validationUtil;
 
@@ -105,6 +110,7 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
             
             // 캐시 무효화
             boardMasterCacheService.evictAllBoardMasterCache();
+            boardSchemaRegistry.evictAll();
         } catch (Exception e) {
             loggingUtil.logFail(Action.CREATE, "게시판 생성 실패: " + e.getMessage());
             // === 보상 롤백(DDL 실패 시 논리 데이터 복구) ===
@@ -149,15 +155,18 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
             // 2) field definitions replace (delete → insert)
             boardMasterDao.replaceBoardFieldDefinitions(idx, request.getFields());
 
-            // 3) sync physical table with definitions (DDL; 실패 가능)
-            boardMasterDao.syncPhysicalTableWithDefinitions(idx);
+            // 3) sync physical table with definitions (DDL; 실패 가능, 대형 테이블은 작업 등록)
+            Long jobIdx = boardMasterDao.syncPhysicalTableWithDefinitions(idx);
 
-            loggingUtil.logSuccess(Action.UPDATE, "게시판 수정 및 스키마 동기화 완료: idx=" + idx);
+            loggingUtil.logSuccess(Action.UPDATE, jobIdx == null
+                    ? "게시판 수정 및 스키마 동기화 완료: idx=" + idx
+                    : "게시판 수정 완료, 스키마 변경 작업 등록: idx=" + idx + ", jobIdx=" + jobIdx);
             
             // 캐시 무효화
             boardMasterCacheService.evictBoardMasterCache(idx);
             boardMasterCacheService.evictFieldDefinitionsCache(idx);
             boardMasterCacheService.evictSearchCache();
+            boardSchemaRegistry.evictAll();
         } catch (Exception e) {
             loggingUtil.logFail(Action.UPDATE, "게시판 수정 실패: " + e.getMessage());
 
@@ -207,6 +216,7 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
             
             // 캐시 무효화
             boardMasterCacheService.evictAllBoardMasterCache();
+            boardSchemaRegistry.evictAll();
         } catch (Exception e) {
             loggingUtil.logFail(Action.DELETE, "게시판 삭제 실패: " + e.getMessage());
             // === 보상: 테이블이 남았는데 메타만 지워졌다면 복구 시도 ===
@@ -296,14 +306,17 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
             // 1) replace definitions
             boardMasterDao.replaceBoardFieldDefinitions(masterIdx, request.getFields());
 
-            // 2) sync physical table (DDL)
-            boardMasterDao.syncPhysicalTableWithDefinitions(masterIdx);
+            // 2) sync physical table (DDL, 대형 테이블은 작업 등록)
+            Long jobIdx = boardMasterDao.syncPhysicalTableWithDefinitions(masterIdx);
 
-            loggingUtil.logSuccess(Action.UPDATE, "필드 정의 업서트 + 동기화 완료: masterIdx=" + masterIdx);
+            loggingUtil.logSuccess(Action.UPDATE, jobIdx == null
+                    ? "필드 정의 업서트 + 동기화 완료: masterIdx=" + masterIdx
+                    : "필드 정의 업서트 완료, 스키마 변경 작업 등록: masterIdx=" + masterIdx + ", jobIdx=" + jobIdx);
             
             // 캐시 무효화
             boardMasterCacheService.evictFieldDefinitionsCache(masterIdx);
             boardMasterCacheService.evictBoardMasterCache(masterIdx);
+            boardSchemaRegistry.evictAll();
         } catch (Exception e) {
             loggingUtil.logFail(Action.UPDATE, "필드 정의 업서트/동기화 실패: " + e.getMessage());
             // === 보상: 이전 필드로 복원 + 재동기화 ===
@@ -322,14 +335,33 @@ public class BoardMasterServiceImpl extends EgovAbstractServiceImpl implements B
     /** 강제 동기화 */
     @Override
     @Transactional(rollbackFor = EgovBizException.class)
-    public void syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception {
+    public Long syncPhysicalTableWithDefinitions(Long boardMasterIdx) throws Exception {
         loggingUtil.logAttempt(Action.UPDATE, "스키마 동기화 시도: masterIdx=" + boardMasterIdx);
         try {
-            boardMasterDao.syncPhysicalTableWithDefinitions(boardMasterIdx);
-            loggingUtil.logSuccess(Action.UPDATE, "스키마 동기화 완료: masterIdx=" + boardMasterIdx);
+            Long jobIdx = boardMasterDao.syncPhysicalTableWithDefinitions(boardMasterIdx);
+            boardSchemaRegistry.evictAll();
+            loggingUtil.logSuccess(Action.UPDATE, jobIdx == null
+                    ? "스키마 동기화 완료: masterIdx=" + boardMasterIdx
+                    : "스키마 변경 작업 등록: masterIdx=" + boardMasterIdx + ", jobIdx=" + jobIdx);
+            return jobIdx;
         } catch (Exception e) {
             loggingUtil.logFail(Action.UPDATE, "스키마 동기화 실패: " + e.getMessage());
             throw processException("스키마 동기화 중 오류가 발생했습니다.", e);
         }
     }
+
+    /** 스키마 변경 작업 진행 상황 */
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public List<BoardSchemaChangeJobResponse> getSchemaChangeJobs(Long boardMasterIdx) throws Exception {
+        loggingUtil.logAttempt(Action.RETRIEVE, "스키마 변경 작업 조회 시도: masterIdx=" + boardMasterIdx);
+        try {
+            List<BoardSchemaChangeJobResponse> jobs = boardSchemaChangeDao.findByBoardMasterIdx(boardMasterIdx);
+            loggingUtil.logSuccess(Action.RETRIEVE, "스키마 변경 작업 조회 성공: count=" + jobs.size());
+            return jobs;
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "스키마 변경 작업 조회 실패: " + e.getMessage());
+            throw processException("스키마 변경 작업 조회 중 오류가 발생했습니다.", e);
+        }
+    }
 }
\ No newline at end of file
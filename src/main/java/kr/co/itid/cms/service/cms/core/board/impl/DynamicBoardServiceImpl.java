@@ -1,31 +1,58 @@
 package kr.co.itid.cms.service.cms.core.board.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
+import kr.co.itid.cms.dto.cms.core.board.response.BoardImportResponse;
 import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.CursorOption;
+import kr.co.itid.cms.dto.cms.core.common.CursorSliceResponse;
 import kr.co.itid.cms.dto.cms.core.common.PaginationOption;
 import kr.co.itid.cms.dto.cms.core.common.SearchOption;
 import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.enums.BoardExportFormat;
 import kr.co.itid.cms.repository.cms.core.board.DynamicBoardDao;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
 import kr.co.itid.cms.service.cms.core.board.DynamicBoardService;
+import kr.co.itid.cms.service.scheduler.board.BoardViewCountService;
 import kr.co.itid.cms.util.LoggingUtil;
-import kr.co.itid.cms.util.MapKeyConverterUtil;
 import kr.co.itid.cms.util.SecurityUtil;
+import kr.co.itid.cms.utils.HtmlSanitizer;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service("dynamicBoardService")
 @RequiredArgsConstructor
 public class DynamicBoardServiceImpl extends EgovAbstractServiceImpl implements DynamicBoardService {
 
     private final DynamicBoardDao dynamicBoardDao;
+    private final BoardViewCountService boardViewCountService;
     private final LoggingUtil loggingUtil;
+    private final ObjectMapper objectMapper;
+    private final HtmlSanitizer htmlSanitizer;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_IMPORT_CHUNK_SIZE = 5000;
+
+    @Value("${board.import.chunk-size:500}")
+    private int defaultImportChunkSize;
 
     @Override
     @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
@@ -50,11 +77,13 @@ public class DynamicBoardServiceImpl extends EgovAbstractServiceImpl implements
         Long menuId = user.menuId();
         loggingUtil.logAttempt(Action.RETRIEVE, "[게시글 목록 조회] menuId=" + menuId);
         try {
-            Page<Map<String, Object>> result = dynamicBoardDao.selectListByMenuId(menuId, option, pagination)
-                    .map(MapKeyConverterUtil::convertKeysToCamelCase);
+            Page<Map<String, Object>> result = dynamicBoardDao.selectListByMenuId(menuId, option, pagination);
 
             loggingUtil.logSuccess(Action.RETRIEVE, "[게시글 목록 조회 성공] total=" + result.getTotalElements());
             return result;
+        } catch (IllegalArgumentException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 목록 조회 실패] 잘못된 검색 조건 / " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             loggingUtil.logFail(Action.RETRIEVE, "[게시글 목록 조회 실패] menuId=" + menuId + " / " + e.getMessage());
             throw processException("게시글 목록 조회 중 오류가 발생했습니다.");
@@ -62,18 +91,219 @@ public class DynamicBoardServiceImpl extends EgovAbstractServiceImpl implements
     }
 
     @Override
-    @Transactional(rollbackFor = EgovBizException.class) // readOnly 제거 (UPDATE 필요)
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public Slice<Map<String, Object>> getSlice(SearchOption option, PaginationOption pagination) throws Exception {
+        JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
+        Long menuId = user.menuId();
+        loggingUtil.logAttempt(Action.RETRIEVE, "[게시글 슬라이스 조회] menuId=" + menuId);
+        try {
+            Slice<Map<String, Object>> result = dynamicBoardDao.selectSliceByMenuId(menuId, option, pagination);
+
+            loggingUtil.logSuccess(Action.RETRIEVE, "[게시글 슬라이스 조회 성공] count=" + result.getNumberOfElements());
+            return result;
+        } catch (IllegalArgumentException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 슬라이스 조회 실패] 잘못된 검색 조건 / " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 슬라이스 조회 실패] menuId=" + menuId + " / " + e.getMessage());
+            throw processException("게시글 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public CursorSliceResponse<Map<String, Object>> getCursorList(SearchOption option, CursorOption cursor) throws Exception {
+        JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
+        Long menuId = user.menuId();
+        loggingUtil.logAttempt(Action.RETRIEVE, "[게시글 커서 목록 조회] menuId=" + menuId);
+        try {
+            CursorSliceResponse<Map<String, Object>> result = dynamicBoardDao.selectCursorListByMenuId(menuId, option, cursor);
+
+            loggingUtil.logSuccess(Action.RETRIEVE, "[게시글 커서 목록 조회 성공] count=" + result.getContent().size());
+            return result;
+        } catch (IllegalArgumentException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 커서 목록 조회 실패] 잘못된 커서 / " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 커서 목록 조회 실패] menuId=" + menuId + " / " + e.getMessage());
+            throw processException("게시글 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class) // 단일 스냅샷으로 내보내기
+    public long export(SearchOption option, BoardExportFormat format, OutputStream out) throws Exception {
+        JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
+        Long menuId = user.menuId();
+        loggingUtil.logAttempt(Action.RETRIEVE, "[게시글 내보내기] menuId=" + menuId + ", format=" + format.getValue());
+        try {
+            BoardExportWriter writer = BoardExportWriter.of(format, out, objectMapper);
+            long count = dynamicBoardDao.streamByMenuId(menuId, option, writer);
+            writer.finish();
+
+            loggingUtil.logSuccess(Action.RETRIEVE, "[게시글 내보내기 성공] count=" + count);
+            return count;
+        } catch (IllegalArgumentException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 내보내기 실패] 잘못된 검색 조건 / " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "[게시글 내보내기 실패] menuId=" + menuId + " / " + e.getMessage());
+            throw processException("게시글 내보내기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 일괄 등록: 트랜잭션 없이 시작해 묶음마다 TransactionTemplate으로 커밋
+     */
+    @Override
+    public BoardImportResponse importRows(BoardExportFormat format, InputStream in, Integer chunkSize) throws Exception {
+        JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
+        Long menuId = user.menuId();
+        int chunk = Math.max(1, Math.min(chunkSize != null ? chunkSize : defaultImportChunkSize, MAX_IMPORT_CHUNK_SIZE));
+        loggingUtil.logAttempt(Action.CREATE, "[게시글 가져오기] menuId=" + menuId + ", format=" + format.getValue() + ", chunk=" + chunk);
+        try {
+            ImportProgress progress = new ImportProgress();
+            ImportRules rules = ImportRules.of(dynamicBoardDao.getFieldDefinitionsByMenuId(menuId)); // 스키마 검증 규칙 1회 생성
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+            BoardImportReader reader = BoardImportReader.of(format, in, objectMapper);
+            List<BoardImportReader.Row> buffer = new ArrayList<>(chunk);
+            BoardImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                progress.total++;
+                String error = row.error() != null ? row.error() : rules.validate(row.data());
+                if (error != null) {
+                    progress.fail(row.rowNo(), error);
+                    continue;
+                }
+                buffer.add(row);
+                if (buffer.size() == chunk) {
+                    insertChunk(menuId, user, buffer, tx, progress);
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty()) {
+                insertChunk(menuId, user, buffer, tx, progress);
+            }
+
+            loggingUtil.logSuccess(Action.CREATE, "[게시글 가져오기 완료] total=" + progress.total
+                    + ", inserted=" + progress.inserted + ", failed=" + progress.failed);
+            return BoardImportResponse.builder()
+                    .total(progress.total)
+                    .inserted(progress.inserted)
+                    .failed(progress.failed)
+                    .errors(progress.errors)
+                    .build();
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.CREATE, "[게시글 가져오기 실패] menuId=" + menuId + " / " + e.getMessage());
+            throw processException("게시글 가져오기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 묶음 등록: 병렬 새니타이즈 → 한 트랜잭션에서 batch INSERT
+     * 실패 시 묶음 전체 롤백 후 다음 묶음 계속
+     */
+    private void insertChunk(Long menuId, JwtAuthenticatedUser user, List<BoardImportReader.Row> rows,
+                             TransactionTemplate tx, ImportProgress progress) {
+        List<Map<String, Object>> data = new ArrayList<>(rows.size());
+        for (BoardImportReader.Row row : rows) {
+            // 작성자는 항상 가져오기를 실행한 사용자 (일반 등록과 동일)
+            Map<String, Object> d = row.data();
+            d.put("reg_id", user.userId());
+            d.put("reg_name", user.userName());
+            data.add(d);
+        }
+        data.parallelStream().forEach(htmlSanitizer::sanitizeFields);
+
+        try {
+            Integer inserted = tx.execute(status -> dynamicBoardDao.batchInsertByMenuId(menuId, data));
+            progress.inserted += inserted != null ? inserted : 0;
+        } catch (Exception e) {
+            long from = rows.get(0).rowNo();
+            long to = rows.get(rows.size() - 1).rowNo();
+            progress.failed += rows.size();
+            progress.error(from, "행 " + from + "~" + to + " 저장 실패: " + e.getMessage());
+            loggingUtil.logFail(Action.CREATE, "[게시글 가져오기 묶음 실패] rows=" + from + "~" + to + " / " + e.getMessage());
+        }
+    }
+
+    /**
+     * 가져오기 진행 상태 (단일 스레드에서만 갱신)
+     */
+    private static final class ImportProgress {
+        long total;
+        long inserted;
+        long failed;
+        final List<BoardImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(long rowNo, String message) {
+            failed++;
+            error(rowNo, message);
+        }
+
+        void error(long rowNo, String message) {
+            if (errors.size() < BoardImportResponse.MAX_ERRORS) {
+                errors.add(new BoardImportResponse.RowError(rowNo, message));
+            }
+        }
+    }
+
+    /**
+     * 게시판 스키마 기반 행 검증 규칙
+     * - idx는 새로 발급되므로 무시 (내보내기 파일 재사용)
+     * - 정의되지 않은 컬럼, 필수값(기본값 없음) 누락, 객체/배열 값은 오류
+     */
+    private record ImportRules(Set<String> columns, List<String> required) {
+
+        static ImportRules of(List<FieldDefinitionResponse> fields) {
+            Set<String> columns = new HashSet<>();
+            List<String> required = new ArrayList<>();
+            for (FieldDefinitionResponse f : fields) {
+                columns.add(f.getFieldName());
+                if (f.isRequired() && (f.getDefaultValue() == null || f.getDefaultValue().isBlank())) {
+                    required.add(f.getFieldName());
+                }
+            }
+            return new ImportRules(columns, required);
+        }
+
+        String validate(Map<String, Object> data) {
+            data.remove("idx");
+            for (Map.Entry<String, Object> e : data.entrySet()) {
+                if (!columns.contains(e.getKey())) {
+                    return "정의되지 않은 컬럼입니다: " + e.getKey();
+                }
+                if (e.getValue() instanceof Map || e.getValue() instanceof List) {
+                    return "지원하지 않는 값 형식입니다: " + e.getKey();
+                }
+            }
+            for (String name : required) {
+                Object v = data.get(name);
+                if (v == null || (v instanceof String str && str.isBlank())) {
+                    return "필수값이 없습니다: " + name;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class) // 조회수는 write-behind로 반영
     public Map<String, Object> getOne(Long idx) throws Exception {
         JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
         Long menuId = user.menuId();
         loggingUtil.logAttempt(Action.RETRIEVE, "[게시글 단건 조회] menuId=" + menuId + ", idx=" + idx);
         try {
-            // 1) 조회수 +1
-            dynamicBoardDao.increaseViewCountByMenuId(menuId, idx);
+            // 1) 데이터 조회 (camelCase 키)
+            Map<String, Object> result = dynamicBoardDao.selectOneByMenuId(menuId, idx);
 
-            // 2) 데이터 조회
-            Map<String, Object> raw = dynamicBoardDao.selectOneByMenuId(menuId, idx);
-            Map<String, Object> result = MapKeyConverterUtil.convertKeysToCamelCase(raw);
+            // 2) 조회수 +1 (메모리 누적 후 주기적으로 DB 반영) + 미반영분을 응답에 합산
+            String boardId = dynamicBoardDao.getBoardIdByMenuId(menuId);
+            boardViewCountService.increment(boardId, idx);
+            if (result.get("viewCount") instanceof Number stored) {
+                result.put("viewCount", stored.longValue() + boardViewCountService.pending(boardId, idx));
+            }
 
             loggingUtil.logSuccess(Action.RETRIEVE, "[게시글 조회 성공] idx=" + idx);
             return result;
@@ -119,9 +349,20 @@ public class DynamicBoardServiceImpl extends EgovAbstractServiceImpl implements
             } else {
                 data.put("mod_id", user.userId());
                 data.put("mod_name", user.userName());
-                dynamicBoardDao.updateByMenuId(menuId, idx, data);
+                if (PermissionRequestContext.isOwnershipRequired(idx)) {
+                    // 작성자 조건부 UPDATE → 영향 행 수로 403/404 판정
+                    int updated = dynamicBoardDao.updateOwnedByMenuId(menuId, idx, user.userId(), data);
+                    if (updated == 0) {
+                        throw ownershipFailure(menuId, idx);
+                    }
+                } else {
+                    dynamicBoardDao.updateByMenuId(menuId, idx, data);
+                }
                 loggingUtil.logSuccess(action, "[게시글 수정 성공]");
             }
+        } catch (AccessDeniedException | NoSuchElementException e) {
+            loggingUtil.logFail(action, "[게시글 저장 거부] " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             loggingUtil.logFail(action, "[게시글 저장 실패] " + e.getMessage());
             throw processException("게시글 저장 중 오류가 발생했습니다.", e);
@@ -135,11 +376,32 @@ public class DynamicBoardServiceImpl extends EgovAbstractServiceImpl implements
         Long menuId = user.menuId();
         loggingUtil.logAttempt(Action.DELETE, "[게시글 삭제 시도] menuId=" + menuId + ", idx=" + idx);
         try {
-            dynamicBoardDao.deleteByMenuId(menuId, idx);
+            if (PermissionRequestContext.isOwnershipRequired(idx)) {
+                // 작성자 조건부 soft delete → 영향 행 수로 403/404 판정
+                int deleted = dynamicBoardDao.deleteOwnedByMenuId(menuId, idx, user.userId());
+                if (deleted == 0) {
+                    throw ownershipFailure(menuId, idx);
+                }
+            } else {
+                dynamicBoardDao.deleteByMenuId(menuId, idx);
+            }
             loggingUtil.logSuccess(Action.DELETE, "[게시글 삭제 성공] idx=" + idx);
+        } catch (AccessDeniedException | NoSuchElementException e) {
+            loggingUtil.logFail(Action.DELETE, "[게시글 삭제 거부] idx=" + idx + " / " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             loggingUtil.logFail(Action.DELETE, "[게시글 삭제 실패] idx=" + idx + " / " + e.getMessage());
             throw processException("게시글 삭제 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 조건부 쓰기가 0건일 때: 게시글이 있으면 작성자 불일치(403), 없으면 미존재(404)
+     */
+    private RuntimeException ownershipFailure(Long menuId, Long idx) throws Exception {
+        if (dynamicBoardDao.existsByMenuId(menuId, idx)) {
+            return new AccessDeniedException("본인 게시글만 수정/삭제할 수 있습니다.");
+        }
+        return new NoSuchElementException("게시글이 존재하지 않습니다: " + idx);
+    }
+}
@@ -0,0 +1,29 @@
+package kr.co.itid.cms.service.cms.core.menu;
+
+import kr.co.itid.cms.dto.cms.core.menu.response.MenuNavResponse;
+
+import java.util.List;
+
+/**
+ * 권한 기반 내비게이션 트리 서비스 인터페이스
+ * 현재 사용자가 접근(ACCESS) 또는 조회(VIEW)할 수 있는 메뉴만 남긴 드라이브 트리를 제공합니다.
+ */
+public interface MenuNavigationService {
+
+    /**
+     * 현재 사용자 기준으로 권한 필터링된 드라이브 하위 메뉴 트리를 조회합니다.
+     * 볼 수 없는 메뉴는 하위 메뉴와 함께 제외되며, 각 노드에는 적용 권한 비트마스크가 포함됩니다.
+     *
+     * @param name 드라이브 이름
+     * @return List&lt;MenuNavResponse&gt; 드라이브 루트의 자식부터 시작하는 트리
+     * @throws Exception 메뉴/권한 조회 중 오류 발생 시
+     */
+    List<MenuNavResponse> getNavigationTree(String name) throws Exception;
+
+    /**
+     * 내비게이션 캐시를 모두 비우고 Pub/Sub으로 다른 노드에도 전파합니다.
+     * 트랜잭션 안에서 호출하면 커밋 후 실행됩니다.
+     * 권한 변경은 Pub/Sub 무효화 메시지로 자동 반영되며, 메뉴 구조 변경 시 호출합니다.
+     */
+    void evictNavigationCache();
+}
@@ -0,0 +1,270 @@
+package kr.co.itid.cms.service.cms.core.menu.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
+import kr.co.itid.cms.dto.cms.core.menu.response.MenuNavResponse;
+import kr.co.itid.cms.entity.cms.core.menu.Menu;
+import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.mapper.cms.core.menu.MenuMapper;
+import kr.co.itid.cms.repository.cms.core.menu.MenuRepository;
+import kr.co.itid.cms.service.auth.PermissionResolverService;
+import kr.co.itid.cms.service.auth.model.PermissionBits;
+import kr.co.itid.cms.service.auth.model.PermissionEntry;
+import kr.co.itid.cms.service.cms.core.menu.MenuNavigationService;
+import kr.co.itid.cms.util.LoggingUtil;
+import kr.co.itid.cms.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.egovframe.rte.fdl.cmmn.exception.EgovBizException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static kr.co.itid.cms.constanrt.PermissionConstants.ACCESS;
+import static kr.co.itid.cms.constanrt.PermissionConstants.VIEW;
+import static kr.co.itid.cms.constanrt.RedisConstants.MENU_NAV_EVICT_CHANNEL;
+import static kr.co.itid.cms.constanrt.RedisConstants.PERMISSION_EVICT_CHANNEL;
+
+@Slf4j
+@Service("menuNavigationService")
+@RequiredArgsConstructor
+public class MenuNavigationServiceImpl extends EgovAbstractServiceImpl implements MenuNavigationService {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    // 내비게이션 노출 조건
+    private static final int VISIBLE_MASK = PermissionBits.bitOf(ACCESS) | PermissionBits.bitOf(VIEW);
+
+    private final MenuRepository menuRepository;
+    private final MenuMapper menuMapper;
+    private final PermissionResolverService permissionResolverService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoggingUtil loggingUtil;
+
+    // 드라이브 이름 → 메뉴/권한 인덱스 (필터링된 트리는 인덱스 안에 보관)
+    private Cache<String, DriveIndex> driveCache;
+
+    // 무효화 세대 (적재 중 무효화 감지)
+    private final AtomicLong evictSeq = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        this.driveCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(CACHE_TTL)
+                .build();
+
+        // 권한 무효화(업서트/메뉴 동기화)는 모두 이 채널로 전파됨
+        listenerContainer.addMessageListener(this::onEvict, new ChannelTopic(PERMISSION_EVICT_CHANNEL));
+        // 메뉴 구조 변경은 이 채널로 전파됨
+        listenerContainer.addMessageListener(this::onEvict, new ChannelTopic(MENU_NAV_EVICT_CHANNEL));
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = EgovBizException.class)
+    public List<MenuNavResponse> getNavigationTree(String name) throws Exception {
+        loggingUtil.logAttempt(Action.RETRIEVE, "Try to get navigation tree for: " + name);
+        try {
+            JwtAuthenticatedUser user = SecurityUtil.getCurrentUser();
+
+            // 적재 전에 세대를 기록 → 적재 중 무효화되면 이전 구조로 만든 인덱스를 캐시에서 되돌림
+            final long mark = evictSeq.get();
+            DriveIndex index;
+            try {
+                index = driveCache.get(name, this::loadDriveIndexUnchecked);
+            } catch (CompletionException e) {
+                throw (Exception) e.getCause();
+            }
+            if (evictSeq.get() != mark) {
+                driveCache.asMap().remove(name, index);
+            }
+
+            // 드라이브 내 사용자 오버라이드가 없으면 같은 등급끼리 결과 공유
+            Long userIdx = user.userIdx();
+            long userKey = (userIdx != null && index.overrideUsers().contains(userIdx)) ? userIdx : 0L;
+            NavKey key = new NavKey(user.userLevel(), userKey);
+
+            // 인덱스 단위로 보관 → 무효화 시 인덱스와 함께 폐기되어 계산 중이던 결과가 남지 않음
+            final DriveIndex target = index;
+            List<MenuNavResponse> result = index.trees().computeIfAbsent(key,
+                    k -> buildNavTree(target, k.userIdx() == 0L ? null : k.userIdx(), k.level(), user.isAdmin()));
+
+            loggingUtil.logSuccess(Action.RETRIEVE, "Got navigation tree for: " + name);
+            return result;
+        } catch (NoSuchElementException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "Drive not found: " + name);
+            throw e;
+        } catch (DataAccessException e) {
+            loggingUtil.logFail(Action.RETRIEVE, "Database error while getting navigation tree: " + name);
+            throw processException("Cannot access database", e);
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.RETRIEVE, "Unknown error while getting navigation tree: " + name);
+            throw processException("Unexpected error", e);
+        }
+    }
+
+    @Override
+    public void evictNavigationCache() {
+        // 커밋 전에 비우면 동시 조회가 옛 메뉴 구조를 다시 적재해 TTL 동안 남음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndBroadcast();
+                }
+            });
+        } else {
+            evictAndBroadcast();
+        }
+    }
+
+    private void evictAndBroadcast() {
+        evictLocal();
+        try {
+            stringRedisTemplate.convertAndSend(MENU_NAV_EVICT_CHANNEL, "*");
+        } catch (Exception e) {
+            // 다른 노드는 TTL로 정리됨
+            log.warn("[Menu Nav] 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onEvict(Message message, byte[] pattern) {
+        evictLocal();
+    }
+
+    /** 세대를 먼저 올린 뒤 비움 (진행 중인 적재가 이후 넣은 값을 스스로 제거) */
+    private void evictLocal() {
+        evictSeq.incrementAndGet();
+        driveCache.invalidateAll();
+    }
+
+    private DriveIndex loadDriveIndexUnchecked(String name) {
+        try {
+            return loadDriveIndex(name);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 드라이브 메뉴 + 조상 경로 포함 자체 권한 엔트리 로드 (쿼리 3회)
+     */
+    private DriveIndex loadDriveIndex(String name) throws Exception {
+        Menu root = menuRepository.findByNameAndType(name, "drive")
+                .orElseThrow(() -> new NoSuchElementException("Drive not found: " + name));
+        List<Menu> descendants = menuRepository.findAllDescendantsByPathId(root.getPathId());
+
+        // 드라이브 위 조상 (루트 → 드라이브 부모)
+        List<Long> ancestors = new ArrayList<>();
+        for (String id : root.getPathId().split("\\.")) {
+            Long parsed = Long.parseLong(id);
+            if (!parsed.equals(root.getId())) ancestors.add(parsed);
+        }
+
+        List<Long> menuIds = new ArrayList<>(ancestors.size() + descendants.size() + 1);
+        menuIds.addAll(ancestors);
+        menuIds.add(root.getId());
+        for (Menu m : descendants) menuIds.add(m.getId());
+
+        Map<Long, List<PermissionEntry>> own = permissionResolverService.getOwnEntries(menuIds);
+
+        Set<Long> overrideUsers = new HashSet<>();
+        for (List<PermissionEntry> entries : own.values()) {
+            for (PermissionEntry pe : entries) {
+                if (pe.getUserIdx() != null) overrideUsers.add(pe.getUserIdx());
+            }
+        }
+
+        Map<Long, List<Menu>> childrenMap = new HashMap<>();
+        for (Menu m : descendants) {
+            childrenMap.computeIfAbsent(m.getParentId(), k -> new ArrayList<>()).add(m);
+        }
+        for (List<Menu> children : childrenMap.values()) {
+            children.sort(Comparator.comparingInt(Menu::getPosition));
+        }
+
+        return new DriveIndex(root, ancestors, childrenMap, own, overrideUsers, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 위에서 아래로 한 번 순회하며 상속 권한을 전달
+     * 노드 권한 = 자체 사용자 엔트리(첫 번째) → 자체 등급 엔트리(첫 번째) → 부모에서 상속
+     */
+    private List<MenuNavResponse> buildNavTree(DriveIndex index, Long userIdx, int level, boolean admin) {
+        int inherited = 0;
+        if (admin) {
+            inherited = PermissionBits.ALL;
+        } else {
+            for (Long id : index.ancestors()) {
+                inherited = resolveMask(index.own().get(id), userIdx, level, inherited);
+            }
+            inherited = resolveMask(index.own().get(index.root().getId()), userIdx, level, inherited);
+            if ((inherited & VISIBLE_MASK) == 0) {
+                return Collections.emptyList();
+            }
+        }
+        return buildChildren(index, index.root().getId(), userIdx, level, admin, inherited);
+    }
+
+    private List<MenuNavResponse> buildChildren(DriveIndex index, Long parentId, Long userIdx, int level,
+                                                boolean admin, int inherited) {
+        List<Menu> children = index.childrenMap().getOrDefault(parentId, Collections.emptyList());
+        List<MenuNavResponse> result = new ArrayList<>(children.size());
+        for (Menu menu : children) {
+            int mask = admin ? PermissionBits.ALL
+                    : resolveMask(index.own().get(menu.getId()), userIdx, level, inherited);
+            if ((mask & VISIBLE_MASK) == 0) {
+                // 볼 수 없는 메뉴는 하위 메뉴까지 제외
+                continue;
+            }
+            result.add(menuMapper.toNavResponse(menu, mask,
+                    buildChildren(index, menu.getId(), userIdx, level, admin, mask)));
+        }
+        return result;
+    }
+
+    private int resolveMask(List<PermissionEntry> own, Long userIdx, int level, int inherited) {
+        if (own == null || own.isEmpty()) return inherited;
+
+        // 사용자 엔트리가 등급 엔트리보다 앞에 정렬되어 있음
+        for (PermissionEntry pe : own) {
+            if (userIdx != null && userIdx.equals(pe.getUserIdx())) {
+                return PermissionBits.toMask(pe.getPermissions());
+            }
+        }
+        for (PermissionEntry pe : own) {
+            if (pe.getLevel() != null && pe.getLevel() == level) {
+                return PermissionBits.toMask(pe.getPermissions());
+            }
+        }
+        return inherited;
+    }
+
+    private record DriveIndex(Menu root,
+                              List<Long> ancestors,
+                              Map<Long, List<Menu>> childrenMap,
+                              Map<Long, List<PermissionEntry>> own,
+                              Set<Long> overrideUsers,
+                              Map<NavKey, List<MenuNavResponse>> trees) {}
+
+    /** (등급, 오버라이드 사용자 또는 0) */
+    private record NavKey(int level, long userIdx) {}
+}
@@ -8,10 +8,13 @@ import kr.co.itid.cms.dto.cms.core.menu.response.MenuTypeValueResponse;
 import kr.co.itid.cms.entity.cms.core.menu.Menu;
 import kr.co.itid.cms.enums.Action;
 import kr.co.itid.cms.mapper.cms.core.menu.MenuMapper;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchemaRegistry;
 import kr.co.itid.cms.repository.cms.core.menu.MenuRepository;
 import kr.co.itid.cms.service.auth.PermissionService;
+import kr.co.itid.cms.service.auth.PermissionWarmupService;
 import kr.co.itid.cms.service.cms.core.board.BoardMasterService;
 import kr.co.itid.cms.service.cms.core.content.ContentService;
+import kr.co.itid.cms.service.cms.core.menu.MenuNavigationService;
 import kr.co.itid.cms.service.cms.core.menu.MenuService;
 import kr.co.itid.cms.util.JsonFileWriterUtil;
 import kr.co.itid.cms.util.LoggingUtil;
@@ -36,6 +39,9 @@ public class MenuServiceImpl extends EgovAbstractServiceImpl implements MenuServ
     private final JsonFileWriterUtil jsonFileWriterUtil;
     private final BoardMasterService boardMasterService;
     private final PermissionService permissionService;
+    private final PermissionWarmupService permissionWarmupService;
+    private final MenuNavigationService menuNavigationService;
+    private final BoardSchemaRegistry boardSchemaRegistry;
     private final ContentService contentService;
 
     @Override
@@ -289,6 +295,11 @@ public class MenuServiceImpl extends EgovAbstractServiceImpl implements MenuServ
 
             // 8) 권한 캐시 무효화 (이번 동기화로 영향 받은 모든 메뉴: 생성/수정/이동/삭제)
             permissionService.evictPermissionsCacheForIdsUnion(processedIds, toDeleteIds, rootId);
+            // 커밋 후 드라이브 전체 권한 사전 계산
+            permissionWarmupService.requestWarmup(rootId);
+            menuNavigationService.evictNavigationCache();
+            // 메뉴 ↔ 게시판 연결이 바뀌었을 수 있으므로 스키마 레지스트리 무효화
+            boardSchemaRegistry.evictAll();
 
             loggingUtil.logSuccess(Action.UPDATE, "Synced menu tree for drive: " + driveName);
         } catch (DataIntegrityViolationException e) {
@@ -340,6 +351,7 @@ public class MenuServiceImpl extends EgovAbstractServiceImpl implements MenuServ
 
             // 루트/단독 저장의 경우 pathId = id 로 초기화
             menuRepository.updatePathIdById(menu.getId(), String.valueOf(menu.getId()));
+            menuNavigationService.evictNavigationCache();
 
             if ("drive".equals(request.getType())) {
                 List<Menu> latestMenus = menuRepository.findAllDescendantsByPathId(String.valueOf(menu.getId()));
@@ -368,6 +380,7 @@ public class MenuServiceImpl extends EgovAbstractServiceImpl implements MenuServ
                 menuRepository.deleteAllInBatch(allDescendants);
             }
             menuRepository.delete(rootDrive);
+            menuNavigationService.evictNavigationCache();
 
             loggingUtil.logSuccess(Action.DELETE, "Deleted drive and all children: " + driveName);
         } catch (Exception e) {
@@ -0,0 +1,15 @@
+package kr.co.itid.cms.service.scheduler.board;
+
+/**
+ * 게시판 파티션 유지보수 / 보관 이동 서비스 인터페이스입니다.
+ * 파티션 게시판의 미래 월 파티션을 미리 만들고, 보관 설정 게시판의
+ * 삭제 글과 오래된 글을 압축 보관 테이블로 옮겨 본 테이블을 작게 유지합니다.
+ */
+public interface BoardArchiveService {
+
+    /**
+     * 대상 게시판 전체에 대해 파티션 확보 → 보관 이동 → 빈 파티션 제거를 수행합니다.
+     * 스케줄러에서 하루 한 번 호출되며, 이동은 청크 단위 트랜잭션으로 나누어 진행합니다.
+     */
+    void runMaintenance();
+}
@@ -0,0 +1,16 @@
+package kr.co.itid.cms.service.scheduler.board;
+
+/**
+ * 게시판 온라인 스키마 변경 작업 실행 서비스 인터페이스입니다.
+ * 온라인 ALTER(INSTANT/INPLACE)가 불가능한 대형 게시판 테이블의 변경을
+ * 섀도 테이블 복사 방식으로 조금씩 나누어 진행합니다.
+ */
+public interface BoardSchemaChangeService {
+
+    /**
+     * 대기/진행 중인 작업 하나를 점유해 다음 단계를 실행합니다.
+     * 스케줄러에서 주기적으로 호출되며, 한 번에 제한된 청크만 복사하고 반환합니다.
+     * 작업 상태는 DB에 저장되므로 재기동 후에도 이어서 진행됩니다.
+     */
+    void runPendingJob();
+}
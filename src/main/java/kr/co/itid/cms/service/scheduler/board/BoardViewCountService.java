@@ -0,0 +1,32 @@
+package kr.co.itid.cms.service.scheduler.board;
+
+/**
+ * 게시글 조회수 지연 반영(write-behind) 서비스 인터페이스입니다.
+ * 조회 시에는 메모리 카운터만 증가시키고,
+ * 누적된 증가분을 주기적으로 게시판 테이블에 일괄 반영합니다.
+ */
+public interface BoardViewCountService {
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. (메모리 누적, DB 반영은 flush 시점)
+     *
+     * @param boardId 게시판 ID
+     * @param idx 게시글 IDX
+     */
+    void increment(String boardId, Long idx);
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+     *
+     * @param boardId 게시판 ID
+     * @param idx 게시글 IDX
+     * @return 미반영 증가분 (없으면 0)
+     */
+    long pending(String boardId, Long idx);
+
+    /**
+     * 누적된 조회수 증가분을 DB에 반영합니다.
+     * 스케줄러에서 주기적으로 호출되며, 애플리케이션 종료 시에도 한 번 호출됩니다.
+     */
+    void flush();
+}
@@ -0,0 +1,121 @@
+package kr.co.itid.cms.service.scheduler.board.impl;
+
+import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.repository.cms.core.board.BoardArchiveDao;
+import kr.co.itid.cms.repository.cms.core.board.BoardSchemaChangeDao;
+import kr.co.itid.cms.repository.cms.core.board.count.BoardCountCache;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchemaRegistry;
+import kr.co.itid.cms.service.scheduler.board.BoardArchiveService;
+import kr.co.itid.cms.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 게시판 파티션 유지보수 / 보관 이동
+ *
+ * - 파티션 게시판: 현재 월 + months-ahead 까지 월 파티션을 미리 분할
+ * - 보관 설정 게시판: 기준 시각(archive_watermark)을 먼저 올리고 목록 캐시를 무효화한 뒤
+ *   삭제 글 → 기준 월 이전 글 순으로 청크마다 한 트랜잭션(복사 + 삭제)으로 이동
+ * - 이동으로 비워진 지난 월 파티션은 DROP PARTITION으로 제거
+ * - 온라인 스키마 변경이 진행 중인 테이블은 건너뛰고 다음 회차에 처리
+ */
+@Service("boardArchiveService")
+@RequiredArgsConstructor
+public class BoardArchiveServiceImpl extends EgovAbstractServiceImpl implements BoardArchiveService {
+
+    private final BoardArchiveDao boardArchiveDao;
+    private final BoardSchemaChangeDao boardSchemaChangeDao;
+    private final BoardSchemaRegistry boardSchemaRegistry;
+    private final BoardCountCache boardCountCache;
+    private final PlatformTransactionManager transactionManager;
+    private final LoggingUtil loggingUtil;
+
+    @Value("${board.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${board.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    @Scheduled(cron = "${board.archive.cron:0 30 3 * * *}")
+    public void runMaintenance() {
+        List<BoardArchiveDao.Target> targets;
+        try {
+            targets = boardArchiveDao.findTargets();
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.UPDATE, "Board archive target lookup failed: " + e.getMessage());
+            return;
+        }
+
+        for (BoardArchiveDao.Target target : targets) {
+            try {
+                if (boardSchemaChangeDao.hasActiveJob(target.tableName())) {
+                    loggingUtil.logAttempt(Action.UPDATE, "Board archive skipped(schema change in progress): table=" + target.tableName());
+                    continue;
+                }
+                maintain(target);
+            } catch (Exception e) {
+                loggingUtil.logFail(Action.UPDATE, "Board archive failed: table=" + target.tableName() + ", " + e.getMessage());
+            }
+        }
+    }
+
+    private void maintain(BoardArchiveDao.Target target) throws Exception {
+        String table = target.tableName();
+
+        if (target.partitioned()) {
+            int added = boardArchiveDao.ensureFuturePartitions(table, monthsAhead);
+            if (added > 0) {
+                loggingUtil.logSuccess(Action.UPDATE, "Board partitions added: table=" + table + ", count=" + added);
+            }
+        }
+
+        if (target.archiveAfterMonths() == null) return;
+
+        LocalDateTime cutoff = YearMonth.now().minusMonths(target.archiveAfterMonths()).atDay(1).atStartOfDay();
+        loggingUtil.logAttempt(Action.UPDATE, "Board archive: table=" + table + ", cutoff=" + cutoff);
+
+        boardArchiveDao.ensureArchiveTable(table);
+
+        // 조회가 보관 테이블을 포함하도록 기준 시각을 이동보다 먼저 반영
+        if (boardArchiveDao.advanceWatermark(target.masterIdx(), cutoff)) {
+            boardSchemaRegistry.evictAll();
+        }
+
+        long deleted = moveAll(() -> boardArchiveDao.moveDeletedChunk(table, chunkSize));
+        long expired = moveAll(() -> boardArchiveDao.moveExpiredChunk(table, cutoff, chunkSize));
+
+        // 전체 건수 카운터는 다음 조회에서 COUNT(*)로 다시 계산
+        if (expired > 0) {
+            boardCountCache.evict(target.boardId());
+        }
+
+        int dropped = target.partitioned() ? boardArchiveDao.dropArchivedPartitions(table, cutoff) : 0;
+
+        loggingUtil.logSuccess(Action.UPDATE, "Board archive done: table=" + table
+                + ", deleted=" + deleted + ", expired=" + expired + ", droppedPartitions=" + dropped);
+    }
+
+    /** 청크가 비거나 덜 찰 때까지 청크마다 별도 트랜잭션으로 이동 */
+    private long moveAll(IntSupplier chunk) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long total = 0;
+        int moved;
+        do {
+            Integer result = tx.execute(status -> chunk.getAsInt());
+            moved = result != null ? result : 0;
+            total += moved;
+        } while (moved >= chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,104 @@
+package kr.co.itid.cms.service.scheduler.board.impl;
+
+import kr.co.itid.cms.dto.cms.core.board.response.BoardSchemaChangeJobResponse;
+import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.enums.BoardSchemaChangeStatus;
+import kr.co.itid.cms.repository.cms.core.board.BoardMasterDao;
+import kr.co.itid.cms.repository.cms.core.board.BoardSchemaChangeDao;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchemaRegistry;
+import kr.co.itid.cms.service.scheduler.board.BoardSchemaChangeService;
+import kr.co.itid.cms.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 게시판 온라인 스키마 변경 실행기
+ *
+ * - 매 주기마다 작업 하나를 점유(lease)하고 다음 단계를 실행한 뒤 점유를 해제한다.
+ *   PENDING: 섀도 테이블 + 트리거 준비 / COPYING: 청크 복사 / CUTOVER: RENAME 교체
+ * - 복사는 주기당 chunks-per-run × chunk-size 행으로 제한하고, 주기 사이 대기로 부하를 조절한다.
+ * - 노드가 중단되면 임대 만료 후 다른 노드(또는 재기동한 노드)가 마지막 복사 위치부터 이어받는다.
+ */
+@Service("boardSchemaChangeService")
+@RequiredArgsConstructor
+public class BoardSchemaChangeServiceImpl extends EgovAbstractServiceImpl implements BoardSchemaChangeService {
+
+    private static final int LEASE_SECONDS = 300;
+
+    private final BoardSchemaChangeDao boardSchemaChangeDao;
+    private final BoardMasterDao boardMasterDao;
+    private final BoardSchemaRegistry boardSchemaRegistry;
+    private final LoggingUtil loggingUtil;
+
+    @Value("${board.schema-change.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${board.schema-change.chunks-per-run:5}")
+    private int chunksPerRun;
+
+    @Override
+    @Scheduled(fixedDelayString = "${board.schema-change.interval-ms:2000}")
+    public void runPendingJob() {
+        String owner = UUID.randomUUID().toString();
+        BoardSchemaChangeJobResponse job;
+        try {
+            job = boardSchemaChangeDao.claimNext(owner, LEASE_SECONDS);
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.UPDATE, "Schema change job claim failed: " + e.getMessage());
+            return;
+        }
+        if (job == null) return;
+
+        try {
+            runStep(job);
+        } catch (Exception e) {
+            loggingUtil.logFail(Action.UPDATE, "Schema change job failed: jobIdx=" + job.getIdx() + ", " + e.getMessage());
+            try {
+                boardSchemaChangeDao.fail(job.getIdx(), e.getMessage());
+            } catch (Exception cleanup) {
+                loggingUtil.logFail(Action.UPDATE, "Schema change job cleanup failed(운영 확인 필요): jobIdx="
+                        + job.getIdx() + ", " + cleanup.getMessage());
+            }
+        } finally {
+            try {
+                boardSchemaChangeDao.release(job.getIdx(), owner);
+            } catch (Exception e) {
+                // 임대 만료 후 다시 점유된다
+                loggingUtil.logFail(Action.UPDATE, "Schema change job release failed: jobIdx=" + job.getIdx());
+            }
+        }
+    }
+
+    private void runStep(BoardSchemaChangeJobResponse job) throws Exception {
+        if (job.getStatus() == BoardSchemaChangeStatus.PENDING) {
+            loggingUtil.logAttempt(Action.UPDATE, "Prepare shadow table: jobIdx=" + job.getIdx() + ", table=" + job.getTableName());
+            boardSchemaChangeDao.prepare(job);
+            job = boardSchemaChangeDao.findByIdx(job.getIdx());
+        }
+
+        for (int i = 0; i < chunksPerRun && job.getStatus() == BoardSchemaChangeStatus.COPYING; i++) {
+            boardSchemaChangeDao.copyChunk(job, chunkSize);
+            job = boardSchemaChangeDao.findByIdx(job.getIdx());
+        }
+
+        if (job.getStatus() == BoardSchemaChangeStatus.CUTOVER) {
+            boardSchemaChangeDao.cutover(job);
+            boardSchemaRegistry.evictAll();
+            loggingUtil.logSuccess(Action.UPDATE, "Schema change job done: jobIdx=" + job.getIdx()
+                    + ", table=" + job.getTableName() + ", copied=" + job.getCopiedRows());
+
+            // 교체된 테이블 기준으로 인덱스 재확인 (실패해도 작업은 완료 상태 유지, 수동 동기화로 재시도)
+            try {
+                boardMasterDao.syncPhysicalTableWithDefinitions(job.getBoardMasterIdx());
+                boardSchemaRegistry.evictAll();
+            } catch (Exception e) {
+                loggingUtil.logFail(Action.UPDATE, "Post-cutover sync failed: jobIdx=" + job.getIdx() + ", " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package kr.co.itid.cms.service.scheduler.board.impl;
+
+import kr.co.itid.cms.enums.Action;
+import kr.co.itid.cms.repository.cms.core.board.DynamicBoardDao;
+import kr.co.itid.cms.service.scheduler.board.BoardViewCountService;
+import kr.co.itid.cms.util.LoggingUtil;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind
+ *
+ * - 조회: boardId → idx → LongAdder 증가 (행 잠금 없음)
+ * - flush: 게시판별 증가분을 idx 순으로 모아 한 트랜잭션에서 batch UPDATE
+ *   실패 시 증가분을 카운터에 되돌려 다음 회차에 재시도 (at-least-once)
+ * - 한 주기 동안 증가가 없던 항목은 맵에서 제거 (합계가 0일 때만 compute 안에서 제거,
+ *   제거 직후 떨어져 나간 카운터에 증가한 호출은 스스로 현재 카운터로 옮김)
+ */
+@Service("boardViewCountService")
+@RequiredArgsConstructor
+public class BoardViewCountServiceImpl extends EgovAbstractServiceImpl implements BoardViewCountService {
+
+    private final DynamicBoardDao dynamicBoardDao;
+    private final PlatformTransactionManager transactionManager;
+    private final LoggingUtil loggingUtil;
+
+    private final Map<String, Map<Long, LongAdder>> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String boardId, Long idx) {
+        Map<Long, LongAdder> board = counters.computeIfAbsent(boardId, k -> new ConcurrentHashMap<>());
+        long delta = 1L;
+        while (delta > 0) {
+            LongAdder adder = board.computeIfAbsent(idx, k -> new LongAdder());
+            adder.add(delta);
+            // flush가 유휴 항목으로 제거한 카운터에 더했다면 아직 반영되지 않은 분량을 현재 카운터로 옮김
+            if (board.get(idx) == adder) return;
+            delta = adder.sumThenReset();
+        }
+    }
+
+    @Override
+    public long pending(String boardId, Long idx) {
+        Map<Long, LongAdder> board = counters.get(boardId);
+        if (board == null) return 0L;
+        LongAdder adder = board.get(idx);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 5000) // 5초 간격
+    public synchronized void flush() {
+        for (Map.Entry<String, Map<Long, LongAdder>> board : counters.entrySet()) {
+            flushBoard(board.getKey(), board.getValue());
+        }
+    }
+
+    private void flushBoard(String boardId, Map<Long, LongAdder> board) {
+        // idx 순 정렬 → 동시 UPDATE 간 잠금 순서 고정
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> e : board.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(e.getKey(), delta);
+            } else {
+                // 확인 시점에도 0일 때만 제거 (그 사이 증가한 항목은 다음 회차에 반영)
+                LongAdder idle = e.getValue();
+                board.computeIfPresent(e.getKey(), (k, adder) -> adder == idle && adder.sum() == 0 ? null : adder);
+            }
+        }
+        if (deltas.isEmpty()) return;
+
+        loggingUtil.logAttempt(Action.UPDATE, "Flush view counts: boardId=" + boardId + ", posts=" + deltas.size());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    dynamicBoardDao.increaseViewCounts(boardId, deltas));
+            loggingUtil.logSuccess(Action.UPDATE, "View counts flushed: boardId=" + boardId);
+        } catch (BadSqlGrammarException e) {
+            // 게시판 테이블이 삭제된 경우 → 재시도 의미 없음
+            loggingUtil.logFail(Action.UPDATE, "View counts dropped: boardId=" + boardId + ", error=" + e.getMessage());
+        } catch (Exception e) {
+            // 롤백되었으므로 증가분을 되돌려 다음 회차에 재시도
+            deltas.forEach((idx, delta) ->
+                    board.computeIfAbsent(idx, k -> new LongAdder()).add(delta));
+            loggingUtil.logFail(Action.UPDATE, "View count flush failed: boardId=" + boardId + ", error=" + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 전 남은 증가분 반영
+        flush();
+    }
+}
@@ -3,6 +3,8 @@ package kr.co.itid.cms.utils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -24,6 +26,26 @@ public class HtmlSanitizer {
         "href", "src", "alt", "title", "class", "id", "target"
     };
 
+    // HTML 콘텐츠가 포함될 수 있는 필드명들
+    public static final Set<String> HTML_FIELDS = Set.of("content", "description", "summary", "body", "text");
+
+    // 위험한 태그들 (쌍 태그 / 단일 태그 패턴 미리 컴파일)
+    private static final String[] DANGEROUS_TAGS = {
+        "script", "object", "embed", "link", "meta", "iframe", "frame", "frameset",
+        "form", "input", "button", "textarea", "select", "option"
+    };
+    private static final Pattern[] DANGEROUS_TAG_PATTERNS = new Pattern[DANGEROUS_TAGS.length];
+    private static final Pattern[] DANGEROUS_SINGLE_TAG_PATTERNS = new Pattern[DANGEROUS_TAGS.length];
+
+    static {
+        for (int i = 0; i < DANGEROUS_TAGS.length; i++) {
+            String tag = DANGEROUS_TAGS[i];
+            DANGEROUS_TAG_PATTERNS[i] = Pattern.compile("<" + tag + "[^>]*>.*?</" + tag + ">",
+                    Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
+            DANGEROUS_SINGLE_TAG_PATTERNS[i] = Pattern.compile("<" + tag + "[^>]*/>", Pattern.CASE_INSENSITIVE);
+        }
+    }
+
     // 위험한 패턴들
     private static final Pattern SCRIPT_PATTERN = Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
     private static final Pattern JAVASCRIPT_PATTERN = Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE);
@@ -94,25 +116,28 @@ public class HtmlSanitizer {
      * 실제 운영에서는 더 정교한 HTML 파서 라이브러리 사용 권장
      */
     private String removeUnallowedTags(String html) {
-        // 위험한 태그들 제거
-        String[] dangerousTags = {
-            "script", "object", "embed", "link", "meta", "iframe", "frame", "frameset",
-            "form", "input", "button", "textarea", "select", "option"
-        };
-        
-        for (String tag : dangerousTags) {
-            Pattern pattern = Pattern.compile("<" + tag + "[^>]*>.*?</" + tag + ">", 
-                                            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
-            html = pattern.matcher(html).replaceAll("");
-            
-            // 단일 태그도 제거
-            Pattern singlePattern = Pattern.compile("<" + tag + "[^>]*/>", Pattern.CASE_INSENSITIVE);
-            html = singlePattern.matcher(html).replaceAll("");
+        // 위험한 태그들 제거 (단일 태그 포함)
+        for (int i = 0; i < DANGEROUS_TAGS.length; i++) {
+            html = DANGEROUS_TAG_PATTERNS[i].matcher(html).replaceAll("");
+            html = DANGEROUS_SINGLE_TAG_PATTERNS[i].matcher(html).replaceAll("");
         }
         
         return html;
     }
 
+    /**
+     * Map의 HTML 필드(HTML_FIELDS)를 새니타이즈
+     * 
+     * @param data 게시글 데이터 (직접 수정)
+     */
+    public void sanitizeFields(Map<String, Object> data) {
+        for (String fieldName : HTML_FIELDS) {
+            if (data.get(fieldName) instanceof String value && !value.trim().isEmpty()) {
+                data.put(fieldName, sanitize(value));
+            }
+        }
+    }
+
     /**
      * 텍스트만 추출 (모든 HTML 태그 제거)
      * 
@@ -0,0 +1,136 @@
+package kr.co.itid.cms.repository.cms.core.board.sqlbuilder;
+
+import kr.co.itid.cms.dto.cms.core.board.response.FieldDefinitionResponse;
+import kr.co.itid.cms.dto.cms.core.common.SearchOption;
+import kr.co.itid.cms.repository.cms.core.board.count.BoardCountCache;
+import kr.co.itid.cms.repository.cms.core.board.schema.BoardSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 검색 키 검증 / SQL 템플릿 캐시 키
+ */
+class DynamicBoardSqlBuilderTest {
+
+    private DynamicBoardSqlBuilder builder;
+    private BoardSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        builder = new DynamicBoardSqlBuilder(mock(BoardCountCache.class));
+        schema = schema(1L, List.of());
+    }
+
+    // 실제 게시판과 같이 사용자 정의 필드만 (title/content/reg_name 등 시스템 컬럼은 필드 정의가 될 수 없음)
+    private static BoardSchema schema(long version, List<String> fulltextFields) {
+        List<FieldDefinitionResponse> fields = List.of(
+                field("category", "VARCHAR(50)"),
+                field("summary", "TEXT"),
+                field("location", "VARCHAR(255)"));
+        return new BoardSchema("notice", 1L, fields, fulltextFields, null, version);
+    }
+
+    private static FieldDefinitionResponse field(String name, String type) {
+        return FieldDefinitionResponse.builder()
+                .fieldName(name)
+                .fieldType(type)
+                .searchable(true)
+                .sortable(true)
+                .build();
+    }
+
+    private static SearchOption search(String keyword, List<String> keys) {
+        SearchOption option = new SearchOption();
+        option.setKeyword(keyword);
+        option.setSearchKeys(keys);
+        return option;
+    }
+
+    @Test
+    @DisplayName("스키마에 없는 검색 키는 SQL에 들어가지 않음")
+    void unknownSearchKeysAreDropped() {
+        Map<String, Object> params = new HashMap<>();
+        String sql = builder.buildExportQuery(schema,
+                search("abc", List.of("title", "1=1 OR title", "reg_id) OR (1")), params);
+
+        assertTrue(sql.contains("title LIKE :keyword"));
+        assertFalse(sql.contains("1=1"));
+        assertFalse(sql.contains("reg_id"));
+        assertEquals("%abc%", params.get("keyword"));
+    }
+
+    @Test
+    @DisplayName("시스템 텍스트 컬럼(제목/내용/작성자) 검색 유지")
+    void systemTextColumnsAreSearchable() {
+        Map<String, Object> params = new HashMap<>();
+        String sql = builder.buildExportQuery(schema, search("abc", List.of("title")), params);
+        assertTrue(sql.contains("title LIKE :keyword"));
+        assertEquals("%abc%", params.get("keyword"));
+
+        String all = builder.buildExportQuery(schema,
+                search("abc", List.of("title", "content", "reg_name", "category")), new HashMap<>());
+        assertTrue(all.contains("title LIKE :keyword"));
+        assertTrue(all.contains("content LIKE :keyword"));
+        assertTrue(all.contains("reg_name LIKE :keyword"));
+        assertTrue(all.contains("category LIKE :keyword"));
+    }
+
+    @Test
+    @DisplayName("유효한 검색 키가 하나도 없으면 전체 목록 대신 요청 거부")
+    void onlyUnknownSearchKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                builder.buildExportQuery(schema, search("abc", List.of("no_such_column", "reg_id")), new HashMap<>()));
+    }
+
+    @Test
+    @DisplayName("같은 필터 형태는 바인딩 값이 달라도 같은 템플릿을 재사용")
+    void sameShapeReusesTemplate() {
+        String first = builder.buildExportQuery(schema, search("abc", List.of("title", "category")), new HashMap<>());
+        String second = builder.buildExportQuery(schema, search("xyz", List.of("title", "category")), new HashMap<>());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("검색 키 조합이나 스키마 버전이 다르면 템플릿을 새로 생성")
+    void differentShapeOrVersionBuildsNewTemplate() {
+        String titleOnly = builder.buildExportQuery(schema, search("abc", List.of("title")), new HashMap<>());
+        String titleAndCategory = builder.buildExportQuery(schema, search("abc", List.of("title", "category")), new HashMap<>());
+        assertNotEquals(titleOnly, titleAndCategory);
+
+        String nextVersion = builder.buildExportQuery(schema(2L, List.of()), search("abc", List.of("title")), new HashMap<>());
+        assertEquals(titleOnly, nextVersion);
+        assertNotSame(titleOnly, nextVersion);
+    }
+
+    @Test
+    @DisplayName("검색 키가 FULLTEXT 인덱스 컬럼과 일치하면 MATCH 사용")
+    void fulltextKeysUseMatch() {
+        BoardSchema indexed = schema(1L, List.of("category", "summary"));
+        Map<String, Object> params = new HashMap<>();
+        String sql = builder.buildExportQuery(indexed, search("공지 사항", List.of("summary", "category")), params);
+
+        assertTrue(sql.contains("MATCH(category, summary) AGAINST(:ftKeyword IN BOOLEAN MODE)"));
+        assertTrue(params.containsKey("ftKeyword"));
+    }
+
+    @Test
+    @DisplayName("INSERT 템플릿은 입력 컬럼 조합 단위로 캐시")
+    void insertTemplateKeyedByColumnSubset() {
+        String a = builder.buildInsertQuery(schema, Map.of("category", "c1"));
+        String b = builder.buildInsertQuery(schema, Map.of("category", "c2"));
+        String c = builder.buildInsertQuery(schema, Map.of("category", "c", "summary", "s"));
+
+        assertSame(a, b);
+        assertEquals("INSERT INTO board_notice (category) VALUES (:category)", a);
+        assertEquals("INSERT INTO board_notice (category, summary) VALUES (:category, :summary)", c);
+    }
+}
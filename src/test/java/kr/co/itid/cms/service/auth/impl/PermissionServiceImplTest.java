@@ -0,0 +1,111 @@
+package kr.co.itid.cms.service.auth.impl;
+
+import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
+import kr.co.itid.cms.service.auth.PermissionResolverService;
+import kr.co.itid.cms.service.cms.core.board.DynamicBoardService;
+import kr.co.itid.cms.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PermissionServiceImplTest {
+
+    private static final Long POST_ID = 10L;
+
+    private final JwtAuthenticatedUser user = new JwtAuthenticatedUser(
+            5L, "writer", "작성자", 6, null, null, "localhost", 100L, "sid");
+
+    @Mock private LoggingUtil loggingUtil;
+    @Mock private PermissionResolverService permissionResolverService;
+    @Mock private DynamicBoardService dynamicBoardService;
+
+    @InjectMocks
+    private PermissionServiceImpl permissionService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("hasAccess: 요청 처리 중에도 작성자가 아니면 MODIFY/REMOVE 거부")
+    void hasAccessDeniesNonOwnerInsideRequest() throws Exception {
+        when(permissionResolverService.hasPermission(any(), any())).thenReturn(true);
+        when(dynamicBoardService.getRegIdByBoard(POST_ID)).thenReturn("someone-else");
+
+        assertFalse(permissionService.hasAccess("MODIFY", POST_ID));
+        assertFalse(permissionService.hasAccess("REMOVE", POST_ID));
+        assertFalse(PermissionRequestContext.isOwnershipRequired(POST_ID));
+    }
+
+    @Test
+    @DisplayName("hasAccess: 작성자는 MODIFY 허용")
+    void hasAccessGrantsOwner() throws Exception {
+        when(permissionResolverService.hasPermission(any(), any())).thenReturn(true);
+        when(dynamicBoardService.getRegIdByBoard(POST_ID)).thenReturn("writer");
+
+        assertTrue(permissionService.hasAccess("MODIFY", POST_ID));
+        assertFalse(PermissionRequestContext.isOwnershipRequired(POST_ID));
+    }
+
+    @Test
+    @DisplayName("hasAccessOwnedWrite: 요청 처리 중이면 작성자 확인을 쓰기 쿼리로 위임")
+    void ownedWriteDefersOwnerCheckInsideRequest() throws Exception {
+        when(permissionResolverService.hasPermission(any(), any())).thenReturn(true);
+
+        assertTrue(permissionService.hasAccessOwnedWrite("REMOVE", POST_ID));
+        assertTrue(PermissionRequestContext.isOwnershipRequired(POST_ID));
+        verify(dynamicBoardService, never()).getRegIdByBoard(any());
+    }
+
+    @Test
+    @DisplayName("hasAccessOwnedWrite: 요청 컨텍스트가 없으면 작성자를 직접 확인")
+    void ownedWriteChecksOwnerWithoutRequest() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
+        when(permissionResolverService.hasPermission(any(), any())).thenReturn(true);
+        when(dynamicBoardService.getRegIdByBoard(POST_ID)).thenReturn("someone-else");
+
+        assertFalse(permissionService.hasAccessOwnedWrite("MODIFY", POST_ID));
+    }
+
+    @Test
+    @DisplayName("hasAccessOwnedWrite: 메뉴 권한이 없으면 거부하고 위임 표시도 남기지 않음")
+    void ownedWriteDeniesWithoutMenuPermission() throws Exception {
+        when(permissionResolverService.hasPermission(any(), any())).thenReturn(false);
+
+        assertFalse(permissionService.hasAccessOwnedWrite("MODIFY", POST_ID));
+        assertFalse(PermissionRequestContext.isOwnershipRequired(POST_ID));
+    }
+}
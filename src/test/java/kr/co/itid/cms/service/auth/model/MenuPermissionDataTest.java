@@ -0,0 +1,204 @@
+package kr.co.itid.cms.service.auth.model;
+
+import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static kr.co.itid.cms.constanrt.PermissionConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledPermissionTable 판정이 기존 TreeMap 순회 결과와 같은지 검증
+ */
+class MenuPermissionDataTest {
+
+    private static final List<String> NAMES = List.of(VIEW, WRITE, MODIFY, REMOVE, MANAGE, ACCESS, REPLY, ADMIN);
+    private static final List<Long> USERS = Arrays.asList(null, 1L, 2L, 3L, 4L, 99L);
+    private static final List<Integer> LEVELS = List.of(-5, -1, 0, 1, 3, 7, 255, 256, 300, 1000);
+
+    @Test
+    @DisplayName("빈 체인: 권한 없음, 빈 엔트리")
+    void emptyChain() {
+        MenuPermissionData data = new MenuPermissionData();
+
+        for (Long userIdx : USERS) {
+            for (int level : LEVELS) {
+                for (String name : NAMES) {
+                    assertFalse(data.hasPermission(userIdx, level, name));
+                }
+                PermissionEntry entry = data.getEffectivePermissionEntryForUser(user(userIdx, level));
+                assertNull(entry.getUserIdx());
+                assertNull(entry.getLevel());
+                assertTrue(entry.getPermissions().isEmpty());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 오버라이드: 일치 엔트리 중 하나라도 있으면 허용, 같은 버킷에서는 등급보다 우선")
+    void userOverride() {
+        MenuPermissionData data = new MenuPermissionData();
+        data.addPermissionEntry(1, null, 3, Set.of(VIEW));
+        data.addPermissionEntry(1, 7L, null, Set.of(WRITE));
+        data.addPermissionEntry(2, 7L, null, Set.of(MODIFY));
+        data.addPermissionEntry(2, null, 3, Set.of(ACCESS));
+
+        assertTrue(data.hasPermission(7L, 3, WRITE));
+        assertTrue(data.hasPermission(7L, 3, MODIFY));
+        assertTrue(data.hasPermission(7L, 3, ACCESS)); // 마지막 등급 일치
+        assertFalse(data.hasPermission(7L, 3, VIEW));
+        assertFalse(data.hasPermission(8L, 3, WRITE));
+
+        PermissionEntry entry = data.getEffectivePermissionEntryForUser(user(7L, 3));
+        assertEquals(Set.of(WRITE), entry.getPermissions());
+        assertEquals(7L, entry.getUserIdx());
+
+        assertEquivalent(data);
+    }
+
+    @Test
+    @DisplayName("등급 다중 일치: hasPermission은 마지막, 적용 엔트리는 가장 가까운 버킷의 첫 번째")
+    void multipleLevelMatches() {
+        MenuPermissionData data = new MenuPermissionData();
+        data.addPermissionEntry(1, null, 5, Set.of(VIEW, ACCESS));
+        data.addPermissionEntry(1, null, 5, Set.of(REPLY));
+        data.addPermissionEntry(3, null, 5, Set.of(WRITE));
+
+        assertTrue(data.hasPermission(null, 5, WRITE));
+        assertFalse(data.hasPermission(null, 5, VIEW));
+        assertEquals(Set.of(VIEW, ACCESS), data.getEffectivePermissionEntryForUser(user(null, 5)).getPermissions());
+
+        assertEquivalent(data);
+    }
+
+    @Test
+    @DisplayName("배열 범위를 벗어난 등급(음수, 255 초과)")
+    void outOfRangeLevels() {
+        MenuPermissionData data = new MenuPermissionData();
+        data.addPermissionEntry(1, null, -1, Set.of(VIEW));
+        data.addPermissionEntry(1, null, 1000, Set.of(MANAGE));
+        data.addPermissionEntry(2, null, 255, Set.of(ADMIN));
+        data.addPermissionEntry(2, null, 1000, Set.of(REMOVE));
+
+        assertTrue(data.hasPermission(null, -1, VIEW));
+        assertTrue(data.hasPermission(null, 1000, REMOVE));
+        assertFalse(data.hasPermission(null, 1000, MANAGE));
+        assertTrue(data.hasPermission(null, 255, ADMIN));
+        assertFalse(data.hasPermission(null, 256, ADMIN));
+        assertEquals(Set.of(MANAGE), data.getEffectivePermissionEntryForUser(user(null, 1000)).getPermissions());
+
+        assertEquivalent(data);
+    }
+
+    @Test
+    @DisplayName("엔트리 추가 시 컴파일 결과 폐기")
+    void recompilesAfterChange() {
+        MenuPermissionData data = new MenuPermissionData();
+        data.addPermissionEntry(1, null, 1, Set.of(VIEW));
+        assertFalse(data.hasPermission(null, 1, WRITE));
+
+        data.addPermissionEntry(2, null, 1, Set.of(WRITE));
+        assertTrue(data.hasPermission(null, 1, WRITE));
+
+        assertEquivalent(data);
+    }
+
+    @Test
+    @DisplayName("무작위 체인에서 기존 순회와 동일")
+    void randomChainsMatchTreeMapWalk() {
+        Random random = new Random(20240607L);
+        for (int i = 0; i < 500; i++) {
+            MenuPermissionData data = new MenuPermissionData();
+            int entries = random.nextInt(12);
+            for (int j = 0; j < entries; j++) {
+                Long userIdx = random.nextInt(3) == 0 ? USERS.get(1 + random.nextInt(USERS.size() - 1)) : null;
+                Integer level = (userIdx == null || random.nextBoolean()) ? LEVELS.get(random.nextInt(LEVELS.size())) : null;
+                data.addPermissionEntry(random.nextInt(4), userIdx, level, randomPermissions(random));
+            }
+            assertEquivalent(data);
+        }
+    }
+
+    // ==================== 기존 구현 (TreeMap 순회) ====================
+
+    private static boolean legacyHasPermission(MenuPermissionData data, Long userIdx, int level, String targetPermission) {
+        boolean levelAllowed = false;
+
+        for (Map.Entry<Integer, List<PermissionEntry>> entry : data.getSortedPermissionMap().entrySet()) {
+            for (PermissionEntry permissionEntry : entry.getValue()) {
+                if (permissionEntry.getUserIdx() != null &&
+                        permissionEntry.getUserIdx().equals(userIdx)) {
+                    if (permissionEntry.getPermissions().contains(targetPermission)) {
+                        return true;
+                    }
+                }
+
+                if (permissionEntry.getLevel() != null && permissionEntry.getLevel() == level) {
+                    levelAllowed = permissionEntry.getPermissions().contains(targetPermission);
+                }
+            }
+        }
+
+        return levelAllowed;
+    }
+
+    private static PermissionEntry legacyEffectiveEntry(MenuPermissionData data, JwtAuthenticatedUser user) {
+        for (Map.Entry<Integer, List<PermissionEntry>> bucket : data.getSortedPermissionMap().entrySet()) {
+            PermissionEntry levelMatch = null;
+
+            for (PermissionEntry pe : bucket.getValue()) {
+                if (pe.getUserIdx() != null && pe.getUserIdx().equals(user.userIdx())) {
+                    return pe;
+                }
+                if (pe.getLevel() != null && pe.getLevel().equals(user.userLevel()) && levelMatch == null) {
+                    levelMatch = pe;
+                }
+            }
+            if (levelMatch != null) return levelMatch;
+        }
+        return new PermissionEntry();
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private static void assertEquivalent(MenuPermissionData data) {
+        for (Long userIdx : USERS) {
+            for (int level : LEVELS) {
+                for (String name : NAMES) {
+                    assertEquals(legacyHasPermission(data, userIdx, level, name),
+                            data.hasPermission(userIdx, level, name),
+                            () -> "hasPermission " + name + " user=" + userIdx + " level=" + level + " " + data);
+                }
+
+                JwtAuthenticatedUser user = user(userIdx, level);
+                PermissionEntry expected = legacyEffectiveEntry(data, user);
+                PermissionEntry actual = data.getEffectivePermissionEntryForUser(user);
+                assertEquals(expected.getPermissions(), actual.getPermissions(),
+                        () -> "effective user=" + userIdx + " level=" + level + " " + data);
+                // 사용자 일치로 선택되었는지 여부도 동일해야 함
+                boolean expectedUserMatch = expected.getUserIdx() != null && expected.getUserIdx().equals(userIdx);
+                assertEquals(expectedUserMatch, actual.getUserIdx() != null,
+                        () -> "effective match kind user=" + userIdx + " level=" + level + " " + data);
+            }
+        }
+    }
+
+    private static Set<String> randomPermissions(Random random) {
+        Set<String> permissions = new HashSet<>();
+        for (String name : NAMES) {
+            if (random.nextInt(3) == 0) permissions.add(name);
+        }
+        return permissions;
+    }
+
+    private static JwtAuthenticatedUser user(Long userIdx, int level) {
+        return new JwtAuthenticatedUser(userIdx, "user", "user", level, null, null, null, null, null);
+    }
+}
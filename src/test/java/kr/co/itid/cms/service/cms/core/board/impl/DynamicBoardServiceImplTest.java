@@ -0,0 +1,125 @@
+package kr.co.itid.cms.service.cms.core.board.impl;
+
+import kr.co.itid.cms.config.security.model.JwtAuthenticatedUser;
+import kr.co.itid.cms.repository.cms.core.board.DynamicBoardDao;
+import kr.co.itid.cms.service.auth.PermissionRequestContext;
+import kr.co.itid.cms.util.LoggingUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작성자 조건부 수정/삭제 (hasAccessOwnedWrite로 위임된 경우) 403/404/성공 판정
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DynamicBoardServiceImplTest {
+
+    private static final Long MENU_ID = 100L;
+    private static final Long POST_ID = 10L;
+
+    private final JwtAuthenticatedUser user = new JwtAuthenticatedUser(
+            5L, "writer", "작성자", 6, null, null, "localhost", MENU_ID, "sid");
+
+    @Mock private DynamicBoardDao dynamicBoardDao;
+    @Mock private LoggingUtil loggingUtil;
+
+    @InjectMocks
+    private DynamicBoardServiceImpl dynamicBoardService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        PermissionRequestContext.requireOwnership(POST_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("삭제: 작성자가 아니면 403")
+    void deleteByNonOwnerIsForbidden() throws Exception {
+        when(dynamicBoardDao.deleteOwnedByMenuId(MENU_ID, POST_ID, "writer")).thenReturn(0);
+        when(dynamicBoardDao.existsByMenuId(MENU_ID, POST_ID)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> dynamicBoardService.delete(POST_ID));
+        verify(dynamicBoardDao, never()).deleteByMenuId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제: 게시글이 없으면 404")
+    void deleteMissingPostIsNotFound() throws Exception {
+        when(dynamicBoardDao.deleteOwnedByMenuId(MENU_ID, POST_ID, "writer")).thenReturn(0);
+        when(dynamicBoardDao.existsByMenuId(MENU_ID, POST_ID)).thenReturn(false);
+
+        assertThrows(NoSuchElementException.class, () -> dynamicBoardService.delete(POST_ID));
+    }
+
+    @Test
+    @DisplayName("삭제: 작성자면 성공")
+    void deleteByOwnerSucceeds() throws Exception {
+        when(dynamicBoardDao.deleteOwnedByMenuId(MENU_ID, POST_ID, "writer")).thenReturn(1);
+
+        assertDoesNotThrow(() -> dynamicBoardService.delete(POST_ID));
+        verify(dynamicBoardDao, never()).existsByMenuId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("수정: 작성자가 아니면 403")
+    void updateByNonOwnerIsForbidden() throws Exception {
+        when(dynamicBoardDao.updateOwnedByMenuId(eq(MENU_ID), eq(POST_ID), eq("writer"), any())).thenReturn(0);
+        when(dynamicBoardDao.existsByMenuId(MENU_ID, POST_ID)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> dynamicBoardService.save(POST_ID, new HashMap<>(Map.of("title", "t"))));
+        verify(dynamicBoardDao, never()).updateByMenuId(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("수정: 게시글이 없으면 404")
+    void updateMissingPostIsNotFound() throws Exception {
+        when(dynamicBoardDao.updateOwnedByMenuId(eq(MENU_ID), eq(POST_ID), eq("writer"), any())).thenReturn(0);
+        when(dynamicBoardDao.existsByMenuId(MENU_ID, POST_ID)).thenReturn(false);
+
+        assertThrows(NoSuchElementException.class, () -> dynamicBoardService.save(POST_ID, new HashMap<>(Map.of("title", "t"))));
+    }
+
+    @Test
+    @DisplayName("수정: 작성자면 성공")
+    void updateByOwnerSucceeds() throws Exception {
+        when(dynamicBoardDao.updateOwnedByMenuId(eq(MENU_ID), eq(POST_ID), eq("writer"), any())).thenReturn(1);
+
+        assertDoesNotThrow(() -> dynamicBoardService.save(POST_ID, new HashMap<>(Map.of("title", "t"))));
+    }
+}